@@ -6,7 +6,7 @@ import com.github.kfedor.weather.sdk.core.PollingManager;
 import com.github.kfedor.weather.sdk.core.RequestInfo;
 import com.github.kfedor.weather.sdk.core.WeatherApiClient;
 import com.github.kfedor.weather.sdk.core.WeatherService;
-import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.http.Transport;
 import com.github.kfedor.weather.sdk.util.HttpForwarding;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
@@ -62,14 +62,14 @@ class WeatherPollingIT {
                         """)));
 
         HttpClient client = HttpClient.newHttpClient();
-        RequestExecutor http = HttpForwarding.forwarding(client, "http", "localhost", wireMock.port());
+        Transport http = HttpForwarding.forwarding(client, "http", "localhost", wireMock.port());
 
         WeatherApiClient weatherApiClient = new WeatherApiClient("TEST_KEY", http);
         GeocodingClient geocodingClient = new GeocodingClient("TEST_KEY", http);
         cache = new CacheManager(600_000L, 10);
         service = new WeatherService(weatherApiClient, geocodingClient, cache);
 
-        cache.put("london", new com.github.kfedor.weather.sdk.model.WeatherResponse(), RequestInfo.city("London"));
+        cache.put("london", com.github.kfedor.weather.sdk.model.WeatherResponse.builder().build(), RequestInfo.city("London"));
 
         polling = new PollingManager(service, cache, 1L);
     }
@@ -4,7 +4,7 @@ import com.github.kfedor.weather.sdk.core.CacheManager;
 import com.github.kfedor.weather.sdk.core.GeocodingClient;
 import com.github.kfedor.weather.sdk.core.WeatherApiClient;
 import com.github.kfedor.weather.sdk.core.WeatherService;
-import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.http.Transport;
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
@@ -28,7 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Integration: by city → geocoding (limit=1) → weather by coordinates → cache hit on second call.
- * Uses WireMock; RequestExecutor подменяет host на WireMock, сохраняя path/query.
+ * Uses WireMock; Transport подменяет host на WireMock, сохраняя path/query.
  */
 class WeatherSdkByCityIT {
 
@@ -69,7 +69,7 @@ class WeatherSdkByCityIT {
                         """)));
 
         HttpClient client = HttpClient.newHttpClient();
-        RequestExecutor forwarding = new ForwardingRequestExecutor(client, "http", "localhost", wireMock.port());
+        Transport forwarding = new ForwardingTransport(client, "http", "localhost", wireMock.port());
 
         WeatherApiClient weatherApiClient = new WeatherApiClient("TEST_KEY", forwarding);
         GeocodingClient geocodingClient = new GeocodingClient("TEST_KEY", forwarding);
@@ -86,27 +86,26 @@ class WeatherSdkByCityIT {
     @Test
     void byCityEndToEndPopulatesCacheAndSecondCallHitsCache() {
         WeatherResponse first = service.getByCity("Helsinki");
-        assertThat(first.getName()).isEqualTo("Helsinki");
-        assertThat(first.getTemperature()).isNotNull();
+        assertThat(first.name()).isEqualTo("Helsinki");
+        assertThat(first.temperature()).isNotNull();
 
         wireMock.verify(1, getRequestedFor(urlPathEqualTo("/geo/1.0/direct")));
         wireMock.verify(1, getRequestedFor(urlPathEqualTo("/data/2.5/weather")));
 
         WeatherResponse second = service.getByCity("Helsinki");
-        assertThat(second.getName()).isEqualTo("Helsinki");
+        assertThat(second.name()).isEqualTo("Helsinki");
 
         wireMock.verify(1, getRequestedFor(urlPathEqualTo("/geo/1.0/direct")));
         wireMock.verify(1, getRequestedFor(urlPathEqualTo("/data/2.5/weather")));
     }
 
-    static class ForwardingRequestExecutor extends RequestExecutor {
+    static class ForwardingTransport implements Transport {
         private final HttpClient client;
         private final String scheme;
         private final String host;
         private final int port;
 
-        ForwardingRequestExecutor(HttpClient client, String scheme, String host, int port) {
-            super(client);
+        ForwardingTransport(HttpClient client, String scheme, String host, int port) {
             this.client = client;
             this.scheme = scheme;
             this.host = host;
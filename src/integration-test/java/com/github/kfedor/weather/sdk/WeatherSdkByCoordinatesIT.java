@@ -4,7 +4,7 @@ import com.github.kfedor.weather.sdk.core.CacheManager;
 import com.github.kfedor.weather.sdk.core.GeocodingClient;
 import com.github.kfedor.weather.sdk.core.WeatherApiClient;
 import com.github.kfedor.weather.sdk.core.WeatherService;
-import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.http.Transport;
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
 import com.github.kfedor.weather.sdk.util.HttpForwarding;
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -53,7 +53,7 @@ class WeatherSdkByCoordinatesIT {
                         """)));
 
         HttpClient client = HttpClient.newHttpClient();
-        RequestExecutor http = HttpForwarding.forwarding(client, "http", "localhost", wireMock.port());
+        Transport http = HttpForwarding.forwarding(client, "http", "localhost", wireMock.port());
 
         WeatherApiClient weatherApiClient = new WeatherApiClient("TEST_KEY", http);
         GeocodingClient geocodingClient = new GeocodingClient("TEST_KEY", http); // не будет вызван
@@ -69,7 +69,7 @@ class WeatherSdkByCoordinatesIT {
     @Test
     void endToEndByCoordinates_fetchesAndCaches() {
         WeatherResponse byCoordinates = service.getByCoordinates(59.934280, 30.335099);
-        assertThat(byCoordinates.getName()).isEqualTo("Saint Petersburg");
+        assertThat(byCoordinates.name()).isEqualTo("Saint Petersburg");
         verify(1, getRequestedFor(urlPathEqualTo("/data/2.5/weather")));
 
         service.getByCoordinates(59.934280, 30.335099);
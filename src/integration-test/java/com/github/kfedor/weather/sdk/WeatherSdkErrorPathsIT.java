@@ -5,7 +5,7 @@ import com.github.kfedor.weather.sdk.core.GeocodingClient;
 import com.github.kfedor.weather.sdk.core.WeatherApiClient;
 import com.github.kfedor.weather.sdk.core.WeatherService;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
-import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.http.Transport;
 import com.github.kfedor.weather.sdk.util.HttpForwarding;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
@@ -35,7 +35,7 @@ class WeatherSdkErrorPathsIT {
         configureFor("localhost", wireMock.port());
 
         HttpClient client = HttpClient.newHttpClient();
-        RequestExecutor http = HttpForwarding.forwarding(client, "http", "localhost", wireMock.port());
+        Transport http = HttpForwarding.forwarding(client, "http", "localhost", wireMock.port());
 
         WeatherApiClient weatherApiClient = new WeatherApiClient("BAD_KEY", http);
         GeocodingClient geocodingClient = new GeocodingClient("BAD_KEY", http);
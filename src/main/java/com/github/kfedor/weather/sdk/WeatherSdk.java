@@ -1,8 +1,23 @@
 package com.github.kfedor.weather.sdk;
 
+import com.github.kfedor.weather.sdk.core.ApiKeyPool;
 import com.github.kfedor.weather.sdk.core.PollingManager;
 import com.github.kfedor.weather.sdk.core.WeatherService;
+import com.github.kfedor.weather.sdk.http.ThrottleState;
+import com.github.kfedor.weather.sdk.model.BoundingBox;
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import com.github.kfedor.weather.sdk.model.LookupResult;
+import com.github.kfedor.weather.sdk.model.Place;
+import com.github.kfedor.weather.sdk.model.StationWeather;
+import com.github.kfedor.weather.sdk.model.Units;
+import com.github.kfedor.weather.sdk.model.WeatherDetails;
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Public entry point of the Weather SDK.
@@ -41,12 +56,14 @@ public final class WeatherSdk {
     private final Mode mode;
     private final WeatherService service;
     private final PollingManager polling;
+    private final ApiKeyPool keys;
 
-    WeatherSdk(String apiKey, Mode mode, WeatherService service, PollingManager polling) {
+    WeatherSdk(String apiKey, Mode mode, WeatherService service, PollingManager polling, ApiKeyPool keys) {
         this.apiKey = apiKey;
         this.mode = mode;
         this.service = service;
         this.polling = polling;
+        this.keys = keys;
         if (mode == Mode.POLLING) this.polling.start();
     }
 
@@ -80,6 +97,286 @@ public final class WeatherSdk {
         return service.getByCoordinates(latitude, longitude);
     }
 
+    /**
+     * Retrieves current weather data for the specified city, accepting cached data up to the given age.
+     *
+     * <p>The SDK-wide cache TTL (10 minutes) is replaced by {@code maxAge} for this call.
+     * A billing job that accepts 30-minute-old data passes {@code Duration.ofMinutes(30)}
+     * and is served from any cached entry that young, even one the TTL considers expired,
+     * without a provider call; a live widget passes {@code Duration.ofMinutes(1)} and gets
+     * data refetched once the entry is older than that. {@link Duration#ZERO} always fetches.
+     * While the provider is throttling, no entry older than {@code maxAge} is served in place
+     * of fresh data; the throttling error is thrown instead.</p>
+     *
+     * @param city   the city name (case-insensitive)
+     * @param maxAge maximum acceptable age of the data
+     * @return a {@link com.github.kfedor.weather.sdk.model.WeatherResponse} with current weather information
+     */
+    public WeatherResponse getCurrentByCity(String city, Duration maxAge) {
+        return service.getByCity(city, maxAge);
+    }
+
+    /**
+     * Retrieves current weather data by geographic coordinates, accepting cached data up to the given age.
+     *
+     * @param latitude  of the city
+     * @param longitude of the city
+     * @param maxAge    maximum acceptable age of the data
+     * @return a {@link com.github.kfedor.weather.sdk.model.WeatherResponse} with current weather information
+     * @see #getCurrentByCity(String, Duration)
+     */
+    public WeatherResponse getCurrentByCoordinates(double latitude, double longitude, Duration maxAge) {
+        return service.getByCoordinates(latitude, longitude, maxAge);
+    }
+
+    /**
+     * Retrieves current weather data by geographic coordinates, accepting a nearby observation.
+     *
+     * <p>Weather varies little over a few hundred meters, so a fresh cached observation
+     * requested for a point within {@code maxDistanceKm} is returned instead of calling
+     * the provider; the nearest one wins. Cached coordinates are kept in a grid index
+     * that follows cache writes and evictions, so the search is cheap. Only when no such
+     * observation exists is the provider called, as in
+     * {@link #getCurrentByCoordinates(double, double)}.</p>
+     *
+     * @param latitude      of the city
+     * @param longitude     of the city
+     * @param maxDistanceKm accepted distance to a cached observation in kilometers
+     * @return a {@link com.github.kfedor.weather.sdk.model.WeatherResponse} with current weather information
+     */
+    public WeatherResponse getCurrentByCoordinates(double latitude, double longitude, double maxDistanceKm) {
+        return service.getByCoordinates(latitude, longitude, maxDistanceKm);
+    }
+
+    /**
+     * Retrieves current weather data for the specified city in the given unit system.
+     *
+     * <p>The SDK caches one canonical entry per city in {@link Units#STANDARD} units;
+     * metric and imperial views are derived from it on first read and memoized, so
+     * requesting several unit systems makes no extra provider calls.</p>
+     *
+     * @param city  the city name (case-insensitive)
+     * @param units requested unit system
+     * @return a {@link com.github.kfedor.weather.sdk.model.WeatherResponse} in the requested units
+     */
+    public WeatherResponse getCurrentByCity(String city, Units units) {
+        return service.getByCity(city, units);
+    }
+
+    /**
+     * Retrieves current weather data by geographic coordinates in the given unit system.
+     *
+     * @param latitude  of the city
+     * @param longitude of the city
+     * @param units     requested unit system
+     * @return a {@link com.github.kfedor.weather.sdk.model.WeatherResponse} in the requested units
+     * @see #getCurrentByCity(String, Units)
+     */
+    public WeatherResponse getCurrentByCoordinates(double latitude, double longitude, Units units) {
+        return service.getByCoordinates(latitude, longitude, units);
+    }
+
+    /**
+     * Retrieves current weather data for many cities in one call.
+     *
+     * <p>Names are normalized and deduplicated, fresh cache entries are served in one
+     * pass, and the remaining cities are fetched concurrently under a concurrency cap.
+     * A failing city does not fail the batch: its entry carries the error instead.</p>
+     *
+     * @param cities city names (case-insensitive)
+     * @return a {@link LookupResult} for every distinct name, in input order
+     */
+    public Map<String, LookupResult> getCurrentByCities(Collection<String> cities) {
+        return service.getByCities(cities);
+    }
+
+    /**
+     * Retrieves current weather data for many locations in one call.
+     *
+     * @param locations geographic locations
+     * @return a {@link LookupResult} for every distinct location, in input order
+     * @see #getCurrentByCities(Collection)
+     */
+    public Map<Coordinates, LookupResult> getCurrentByCoordinates(Collection<Coordinates> locations) {
+        return service.getByCoordinates(locations);
+    }
+
+    /**
+     * Retrieves the forecast for the specified city over the next hours.
+     *
+     * <p>The forecast comes in 3-hour slices; each slice is a {@link WeatherResponse}
+     * whose {@code datetime} is the start of the slice. The SDK keeps the 5-day
+     * forecast of every requested location as a set of slices: for 30 minutes any
+     * window is served locally, and a later refresh replaces only the slices that
+     * changed.</p>
+     *
+     * @param city  the city name (case-insensitive)
+     * @param hours length of the window, 1 to 120
+     * @return the slice in progress and the slices starting within the window, in time order
+     */
+    public List<WeatherResponse> getForecastByCity(String city, int hours) {
+        return service.getForecastByCity(city, hours);
+    }
+
+    /**
+     * Retrieves the forecast by geographic coordinates over the next hours.
+     *
+     * @param latitude  of the location
+     * @param longitude of the location
+     * @param hours     length of the window, 1 to 120
+     * @return the slice in progress and the slices starting within the window, in time order
+     * @see #getForecastByCity(String, int)
+     */
+    public List<WeatherResponse> getForecastByCoordinates(double latitude, double longitude, int hours) {
+        return service.getForecastByCoordinates(latitude, longitude, hours);
+    }
+
+    /**
+     * Retrieves current weather data at the provider stations inside a bounding box.
+     *
+     * <p>Intended for weather maps: the whole area costs one provider call, and each
+     * returned station is cached under its coordinates, so later
+     * {@link #getCurrentByCoordinates(double, double)} calls for a station on the map
+     * are served from the cache. Size the cache for the areas you query with
+     * {@link WeatherSdkOptions#getMaxCacheEntries()}.</p>
+     *
+     * @param box  area to query
+     * @param zoom map zoom level; lower levels return fewer, larger cities
+     * @return the stations in the area
+     */
+    public List<StationWeather> getCurrentInArea(BoundingBox box, int zoom) {
+        return service.getInBox(box, zoom);
+    }
+
+    /**
+     * Retrieves current weather data at the provider stations around a location.
+     *
+     * @param latitude    of the center
+     * @param longitude   of the center
+     * @param radiusKm    search radius in kilometers
+     * @param maxStations maximum number of stations, at most 50
+     * @return the stations inside the radius, nearest first
+     * @see #getCurrentInArea(BoundingBox, int)
+     */
+    public List<StationWeather> getCurrentWithin(double latitude, double longitude, double radiusKm, int maxStations) {
+        return service.getWithin(latitude, longitude, radiusKm, maxStations);
+    }
+
+    /**
+     * Resolves geographic coordinates into the name of the nearest place.
+     *
+     * <p>Intended for map-pin labels. Coordinates are snapped to a grid of about a
+     * kilometer and answers are cached for days, so rendering the same or nearby
+     * pins again makes no provider call. Unlike {@link WeatherResponse#name()}, which
+     * is whatever the weather station is called, this is the provider's geocoding name.</p>
+     *
+     * @param latitude  of the point
+     * @param longitude of the point
+     * @return the nearest place, or empty if the provider knows none (e.g. at sea)
+     */
+    public Optional<Place> reverseGeocode(double latitude, double longitude) {
+        return service.reverseGeocode(latitude, longitude);
+    }
+
+    /**
+     * Suggests city names for type-ahead search.
+     *
+     * <p>Answered locally, without a provider call, from every city this SDK instance
+     * has successfully looked up and the names preloaded with
+     * {@link WeatherSdkOptions#getAutocompleteCities()}. Matching is by case-insensitive
+     * prefix, and names looked up more often come first.</p>
+     *
+     * @param prefix typed prefix
+     * @param limit  maximum number of suggestions
+     * @return up to {@code limit} city names, most popular first; empty for a blank prefix
+     */
+    public List<String> autocompleteCity(String prefix, int limit) {
+        return service.suggestCities(prefix, limit);
+    }
+
+    /**
+     * Retrieves current weather data for the specified city as SDK-format JSON.
+     *
+     * <p>Returns the same data as {@link #getCurrentByCity(String)}, serialized like
+     * {@link com.github.kfedor.weather.sdk.model.WeatherResponse}. Intended for
+     * services that relay the data over their own HTTP API: when the SDK was created
+     * with {@link WeatherSdkOptions#isRetainJson()}, a cache hit returns the bytes
+     * serialized once at fetch time, with no serialization and no copying.</p>
+     *
+     * @param city the city name (case-insensitive)
+     * @return a read-only buffer with the UTF-8 encoded JSON, positioned at its start
+     */
+    public ByteBuffer getCurrentJsonByCity(String city) {
+        return service.getJsonByCity(city);
+    }
+
+    /**
+     * Retrieves current weather data by geographic coordinates as SDK-format JSON.
+     *
+     * @param latitude  of the city
+     * @param longitude of the city
+     * @return a read-only buffer with the UTF-8 encoded JSON, positioned at its start
+     * @see #getCurrentJsonByCity(String)
+     */
+    public ByteBuffer getCurrentJsonByCoordinates(double latitude, double longitude) {
+        return service.getJsonByCoordinates(latitude, longitude);
+    }
+
+    /**
+     * Retrieves full-fidelity details of the current weather for the specified city.
+     *
+     * <p>Exposes provider fields that {@link WeatherResponse} omits, such as humidity,
+     * pressure, cloudiness, gusts and precipitation. Requires an SDK created with
+     * {@link WeatherSdkOptions#isRetainDetails()}: the cache then keeps the raw payload
+     * and the extra fields are decoded only when first read, then memoized.
+     * The data comes from the same cache entry as {@link #getCurrentByCity(String)}.</p>
+     *
+     * @param city the city name (case-insensitive)
+     * @return the lazily decoded details
+     * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if details are not retained or the request fails
+     */
+    public WeatherDetails getDetailsByCity(String city) {
+        return service.getDetailsByCity(city);
+    }
+
+    /**
+     * Retrieves full-fidelity details of the current weather by geographic coordinates.
+     *
+     * @param latitude  of the city
+     * @param longitude of the city
+     * @return the lazily decoded details
+     * @see #getDetailsByCity(String)
+     */
+    public WeatherDetails getDetailsByCoordinates(double latitude, double longitude) {
+        return service.getDetailsByCoordinates(latitude, longitude);
+    }
+
+    /**
+     * Returns the current provider throttling state of this SDK's API key.
+     *
+     * <p>Exposes whether the key is inside a {@code 429 Too Many Requests}
+     * window, how long it will last, and counters of throttled responses
+     * and locally rejected calls, for use in application metrics.
+     * For a key pool, the SDK counts as throttled only when every key is.</p>
+     *
+     * @return a snapshot of the throttling state
+     */
+    public ThrottleState.Status getThrottleStatus() {
+        return keys.throttleStatus();
+    }
+
+    /**
+     * Returns the state of every API key used by this SDK instance.
+     *
+     * <p>Contains a single entry unless the SDK was created with
+     * {@link WeatherSdkFactory#createPooled(java.util.Map, Mode, long, ApiKeyPool.Strategy)}.</p>
+     *
+     * @return per-key availability and usage counters
+     */
+    public List<ApiKeyPool.KeyStatus> getKeyStatus() {
+        return keys.status();
+    }
+
     /**
      * Gracefully shuts down the SDK instance.
      *
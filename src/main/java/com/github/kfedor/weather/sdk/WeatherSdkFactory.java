@@ -1,16 +1,28 @@
 package com.github.kfedor.weather.sdk;
 
+import com.github.kfedor.weather.sdk.core.ApiKeyPool;
+import com.github.kfedor.weather.sdk.core.Bulkhead;
 import com.github.kfedor.weather.sdk.core.CacheManager;
+import com.github.kfedor.weather.sdk.core.Gazetteer;
 import com.github.kfedor.weather.sdk.core.GeocodingClient;
+import com.github.kfedor.weather.sdk.core.NegativeCache;
 import com.github.kfedor.weather.sdk.core.PollingManager;
 import com.github.kfedor.weather.sdk.core.WeatherApiClient;
 import com.github.kfedor.weather.sdk.core.WeatherService;
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
 import com.github.kfedor.weather.sdk.http.HttpClientProvider;
 import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.http.Transport;
 import com.github.kfedor.weather.sdk.registry.KeyRegistry;
+import java.io.IOException;
 import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -29,8 +41,8 @@ public final class WeatherSdkFactory {
 
     private static final KeyRegistry<WeatherSdk> REGISTRY = new KeyRegistry<>();
     private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
-    private static final int MAX_CACHE = 10;
     private static final long DEFAULT_POLL_SEC = 60;
+    private static final int MAX_NOT_FOUND = 1024;
 
     private WeatherSdkFactory() {
     }
@@ -64,10 +76,49 @@ public final class WeatherSdkFactory {
      * @throws WeatherSdkException if the API key is invalid or initialization fails
      */
     public static synchronized WeatherSdk create(String apiKey, WeatherSdk.Mode mode, long pollSeconds) {
+        return create(apiKey, mode, pollSeconds, null);
+    }
+
+    /**
+     * Creates or retrieves an existing {@link WeatherSdk} instance that sends
+     * all provider calls through the given {@link Transport}.
+     *
+     * <p>Intended for tests, load tests and profiling — e.g. with an
+     * {@link com.github.kfedor.weather.sdk.http.InMemoryTransport} the whole
+     * SDK pipeline runs without network access. The same one-instance-per-key
+     * rule applies as for {@link #create(String, WeatherSdk.Mode, long)}.</p>
+     *
+     * @param apiKey      OpenWeather API key
+     * @param mode        operating mode ({@code ON_DEMAND} or {@code POLLING})
+     * @param pollSeconds polling interval in seconds
+     * @param transport   transport for provider calls, or {@code null} for the default HTTP transport
+     * @return a fully initialized {@link WeatherSdk} instance
+     * @throws WeatherSdkException if the API key is invalid or initialization fails
+     */
+    public static synchronized WeatherSdk create(String apiKey, WeatherSdk.Mode mode, long pollSeconds,
+                                                 Transport transport) {
+        return create(apiKey, mode, WeatherSdkOptions.builder().pollSeconds(pollSeconds).transport(transport).build());
+    }
+
+    /**
+     * Creates or retrieves an existing {@link WeatherSdk} instance configured by {@link WeatherSdkOptions}.
+     *
+     * <p>The same one-instance-per-key rule applies as for
+     * {@link #create(String, WeatherSdk.Mode, long)}: if an instance for the key
+     * already exists, it is returned as is and {@code options} are ignored.</p>
+     *
+     * @param apiKey  OpenWeather API key
+     * @param mode    operating mode ({@code ON_DEMAND} or {@code POLLING})
+     * @param options optional settings
+     * @return a fully initialized {@link WeatherSdk} instance
+     * @throws WeatherSdkException if the API key is invalid or initialization fails
+     */
+    public static synchronized WeatherSdk create(String apiKey, WeatherSdk.Mode mode, WeatherSdkOptions options) {
         Objects.requireNonNull(apiKey);
         Objects.requireNonNull(mode);
+        Objects.requireNonNull(options);
         if (apiKey.isBlank()) {
-            throw new WeatherSdkException("apiKey must not be blank");
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "apiKey must not be blank");
         }
 
         WeatherSdk existing = REGISTRY.get(apiKey);
@@ -75,22 +126,97 @@ public final class WeatherSdkFactory {
             return existing;
         }
 
+        Transport http = options.getTransport() != null
+                ? options.getTransport() : new RequestExecutor(HttpClientProvider.create());
+        return register(apiKey, mode, options, ApiKeyPool.single(apiKey, http));
+    }
+
+    /**
+     * Creates a {@link WeatherSdk} that spreads its calls across several API keys
+     * using the {@code LEAST_USED} strategy and the default polling interval.
+     *
+     * @param apiKeys OpenWeather API keys
+     * @param mode    operating mode ({@code ON_DEMAND} or {@code POLLING})
+     * @return a fully initialized {@link WeatherSdk} instance
+     * @throws WeatherSdkException if the key list is empty or contains a blank key
+     * @see #createPooled(Map, WeatherSdk.Mode, long, ApiKeyPool.Strategy)
+     */
+    public static WeatherSdk createPooled(List<String> apiKeys, WeatherSdk.Mode mode) {
+        Objects.requireNonNull(apiKeys);
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        apiKeys.forEach(key -> weights.put(key, 1));
+        return createPooled(weights, mode, DEFAULT_POLL_SEC, ApiKeyPool.Strategy.LEAST_USED);
+    }
+
+    /**
+     * Creates or retrieves a {@link WeatherSdk} backed by a pool of API keys.
+     *
+     * <p>All keys share one cache and one polling engine, while provider calls
+     * are distributed among them by the given strategy. Keys answered with
+     * HTTP 429 or 401/403 are temporarily taken out of rotation
+     * (see {@link ApiKeyPool}).</p>
+     *
+     * <p>The instance is registered under the whole set of keys: creating a pool
+     * with the same keys again returns the existing instance.</p>
+     *
+     * @param keyWeights  API keys mapped to their weights (used by {@code WEIGHTED_ROUND_ROBIN})
+     * @param mode        operating mode ({@code ON_DEMAND} or {@code POLLING})
+     * @param pollSeconds polling interval in seconds
+     * @param strategy    key selection strategy
+     * @return a fully initialized {@link WeatherSdk} instance
+     * @throws WeatherSdkException if the pool is empty, a key is blank or a weight is not positive
+     */
+    public static synchronized WeatherSdk createPooled(Map<String, Integer> keyWeights, WeatherSdk.Mode mode,
+                                                       long pollSeconds, ApiKeyPool.Strategy strategy) {
+        Objects.requireNonNull(keyWeights);
+        Objects.requireNonNull(mode);
+        Objects.requireNonNull(strategy);
+        ApiKeyPool.checkKeyWeights(keyWeights);
+
+        String registryKey = "pool:" + String.join(",", new TreeSet<>(keyWeights.keySet()));
+        WeatherSdk existing = REGISTRY.get(registryKey);
+        if (existing != null) {
+            return existing;
+        }
+
         HttpClient httpClient = HttpClientProvider.create();
-        RequestExecutor http = new RequestExecutor(httpClient);
+        Map<String, Transport> transports = new LinkedHashMap<>();
+        keyWeights.keySet().forEach(key -> transports.put(key, new RequestExecutor(httpClient)));
+        return register(registryKey, mode, WeatherSdkOptions.builder().pollSeconds(pollSeconds).build(),
+                new ApiKeyPool(keyWeights, transports, strategy));
+    }
 
-        WeatherApiClient weatherClient = new WeatherApiClient(apiKey, http);
-        GeocodingClient geocodeClient = new GeocodingClient(apiKey, http);
+    private static WeatherSdk register(String registryKey, WeatherSdk.Mode mode, WeatherSdkOptions options,
+                                       ApiKeyPool keys) {
+        WeatherApiClient weatherClient = new WeatherApiClient(keys);
+        GeocodingClient geocodeClient = new GeocodingClient(keys, gazetteer(options.getGazetteer()));
 
-        CacheManager cache = new CacheManager(TTL_MILLIS, MAX_CACHE);
-        WeatherService service = new WeatherService(weatherClient, geocodeClient, cache);
+        CacheManager cache = new CacheManager(TTL_MILLIS, Math.max(1, options.getMaxCacheEntries()),
+                options.isRetainJson());
+        NegativeCache notFound = new NegativeCache(TimeUnit.SECONDS.toMillis(options.getNotFoundTtlSeconds()),
+                MAX_NOT_FOUND);
+        WeatherService service = new WeatherService(weatherClient, geocodeClient, cache, new Bulkhead(),
+                options.isRetainDetails(), notFound);
+        service.preloadCities(options.getAutocompleteCities());
 
-        PollingManager polling = new PollingManager(service, cache, Math.max(10, pollSeconds));
-        WeatherSdk sdk = new WeatherSdk(apiKey, mode, service, polling);
+        PollingManager polling = new PollingManager(service, cache, Math.max(10, options.getPollSeconds()));
+        WeatherSdk sdk = new WeatherSdk(registryKey, mode, service, polling, keys);
 
-        REGISTRY.put(apiKey, sdk);
+        REGISTRY.put(registryKey, sdk);
         return sdk;
     }
 
+    private static Gazetteer gazetteer(Path file) {
+        if (file == null) {
+            return null;
+        }
+        try {
+            return Gazetteer.open(file);
+        } catch (IOException ex) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Cannot open gazetteer: " + file, ex);
+        }
+    }
+
     /**
      * Unregisters the specified SDK instance from the internal registry.
      *
@@ -0,0 +1,85 @@
+package com.github.kfedor.weather.sdk;
+
+import com.github.kfedor.weather.sdk.http.Transport;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Optional settings for {@link WeatherSdkFactory#create(String, WeatherSdk.Mode, WeatherSdkOptions)}.
+ *
+ * <p>Every setting has a default, so only the ones that differ need to be given:</p>
+ *
+ * <pre>{@code
+ * WeatherSdk sdk = WeatherSdkFactory.create(apiKey, WeatherSdk.Mode.ON_DEMAND,
+ *         WeatherSdkOptions.builder().retainJson(true).build());
+ * }</pre>
+ *
+ * <p>Instances are immutable.</p>
+ */
+@Getter
+@Builder
+public final class WeatherSdkOptions {
+
+    /**
+     * Polling interval in seconds for {@link WeatherSdk.Mode#POLLING}; values below 10 are raised to 10.
+     */
+    @Builder.Default
+    private final long pollSeconds = 60;
+
+    /**
+     * Transport for provider calls, or {@code null} for the default HTTP transport.
+     */
+    private final Transport transport;
+
+    /**
+     * Whether cache entries also keep their SDK-format JSON, serialized once when the
+     * data is fetched, for {@link WeatherSdk#getCurrentJsonByCity(String)} and
+     * {@link WeatherSdk#getCurrentJsonByCoordinates(double, double)}.
+     */
+    private final boolean retainJson;
+
+    /**
+     * Whether cache entries also keep the raw provider payload, so that
+     * {@link WeatherSdk#getDetailsByCity(String)} and
+     * {@link WeatherSdk#getDetailsByCoordinates(double, double)} can serve fields
+     * the SDK format drops without another provider call.
+     */
+    private final boolean retainDetails;
+
+    /**
+     * How long, in seconds, a city or location the provider could not resolve is
+     * remembered, so that repeated lookups fail without a provider call; {@code 0} disables this.
+     */
+    @Builder.Default
+    private final long notFoundTtlSeconds = 60;
+
+    /**
+     * Maximum number of cached entries before the least recently used one is evicted; at least 1.
+     * Area queries cache one entry per returned station, so raise this when using them.
+     */
+    @Builder.Default
+    private final int maxCacheEntries = 10;
+
+    /**
+     * Offline gazetteer file (see {@link com.github.kfedor.weather.sdk.core.Gazetteer}) used to
+     * resolve city names without a geocoding call, or {@code null} to always ask the provider.
+     * Names the gazetteer does not know still go to the provider.
+     */
+    private final Path gazetteer;
+
+    /**
+     * City names offered by {@link WeatherSdk#autocompleteCity(String, int)} before they
+     * have been looked up, e.g. the cities of a UI's country list.
+     */
+    @Builder.Default
+    private final List<String> autocompleteCities = List.of();
+
+    /**
+     * Returns options with every setting at its default.
+     */
+    public static WeatherSdkOptions defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,329 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.ThrottledException;
+import com.github.kfedor.weather.sdk.exception.UnauthorizedException;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import com.github.kfedor.weather.sdk.http.ThrottleState;
+import com.github.kfedor.weather.sdk.http.Transport;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of OpenWeather API keys that spreads provider calls across several keys.
+ *
+ * <p>Each member pairs an API key with the {@link Transport} used for it.
+ * Calls are routed by a {@link Strategy}; keys that receive HTTP 429 are
+ * sidelined for the provider's {@code Retry-After} period, and keys rejected
+ * with HTTP 401/403 are sidelined for {@link #UNAUTHORIZED_SIDELINE_MILLIS}
+ * when other keys can take over. A call refused for either reason is retried on
+ * the next available key, trying each key at most once. When no key is available,
+ * calls fail fast with a {@link ThrottledException} or {@link UnauthorizedException}.</p>
+ *
+ * <p>A single-key pool behaves exactly like a client bound to that key.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public class ApiKeyPool {
+
+    static final long UNAUTHORIZED_SIDELINE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final List<Member> members;
+    private final Strategy strategy;
+
+    /**
+     * Defines how the next API key is chosen.
+     *
+     * <ul>
+     *   <li>{@code LEAST_USED} — the key with the fewest in-flight calls,
+     *       ties broken by the total number of calls made.</li>
+     *   <li>{@code WEIGHTED_ROUND_ROBIN} — smooth weighted round-robin,
+     *       each key receiving calls in proportion to its weight.</li>
+     * </ul>
+     */
+    public enum Strategy {LEAST_USED, WEIGHTED_ROUND_ROBIN}
+
+    /**
+     * A provider call bound to a particular API key.
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    public interface KeyedCall<T> {
+        T apply(String apiKey, Transport transport) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Point-in-time state of a single key, suitable for metrics export.
+     *
+     * @param apiKey          the API key, masked except for its last four characters
+     * @param weight          configured weight
+     * @param available       whether the key currently receives calls
+     * @param sidelinedMillis remaining sideline time, {@code 0} if available
+     * @param inFlight        number of calls currently in progress
+     * @param requests        total number of calls routed to the key
+     */
+    public record KeyStatus(String apiKey, int weight, boolean available, long sidelinedMillis,
+                            int inFlight, long requests) {
+    }
+
+    private static final class Member {
+        final String apiKey;
+        final Transport transport;
+        final int weight;
+        int currentWeight;
+        int inFlight;
+        long requests;
+        long throttledResponses;
+        long rejectedRequests;
+        long sidelinedUntil;
+        boolean unauthorized;
+
+        Member(String apiKey, Transport transport, int weight) {
+            this.apiKey = apiKey;
+            this.transport = transport;
+            this.weight = weight;
+        }
+
+        long sidelinedMillis(long now) {
+            return Math.max(0, sidelinedUntil - now);
+        }
+    }
+
+    /**
+     * Creates a pool from API keys and their weights.
+     *
+     * @param keyWeights API keys mapped to positive weights (weights are ignored by {@code LEAST_USED})
+     * @param transports transport to use for each key; must contain every key of {@code keyWeights}
+     * @param strategy   key selection strategy
+     */
+    public ApiKeyPool(Map<String, Integer> keyWeights, Map<String, ? extends Transport> transports, Strategy strategy) {
+        checkKeyWeights(keyWeights);
+        List<Member> list = new ArrayList<>(keyWeights.size());
+        keyWeights.forEach((key, weight) -> {
+            Transport transport = transports.get(key);
+            if (transport == null) {
+                throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "No transport configured for an API key");
+            }
+            list.add(new Member(key, transport, weight));
+        });
+        this.members = List.copyOf(list);
+        this.strategy = strategy;
+    }
+
+    /**
+     * Validates the keys and weights of a pool.
+     *
+     * @param keyWeights API keys mapped to their weights
+     * @throws WeatherSdkException if the map is empty, a key is null or blank or a weight is not positive
+     */
+    public static void checkKeyWeights(Map<String, Integer> keyWeights) {
+        if (keyWeights.isEmpty()) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "API key pool must not be empty");
+        }
+        keyWeights.forEach((key, weight) -> {
+            if (key == null || key.isBlank()) {
+                throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "apiKey must not be blank");
+            }
+            if (weight == null || weight <= 0) {
+                throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Weight of an API key must be positive");
+            }
+        });
+    }
+
+    /**
+     * Creates a pool containing a single API key.
+     *
+     * @param apiKey    the API key
+     * @param transport transport for provider calls
+     * @return a single-member pool
+     */
+    public static ApiKeyPool single(String apiKey, Transport transport) {
+        return new ApiKeyPool(Map.of(apiKey, 1), Map.of(apiKey, transport), Strategy.LEAST_USED);
+    }
+
+    /**
+     * Executes a provider call with the next available API key.
+     *
+     * <p>The key is chosen by the pool's strategy. If the call fails because the key
+     * is throttled or unauthorized, the key is sidelined and the call is retried with
+     * the next available key it has not tried yet; the error is rethrown only when no
+     * such key is left.</p>
+     *
+     * @param call the call to perform
+     * @param <T>  result type
+     * @return the call result
+     * @throws ThrottledException    if every key is sidelined and the earliest one was throttled,
+     *                               or the last key tried was throttled
+     * @throws UnauthorizedException if every key is sidelined and the earliest one was rejected,
+     *                               or the last key tried was rejected
+     */
+    public <T> T call(KeyedCall<T> call) throws IOException, InterruptedException {
+        Member member = acquire();
+        Set<Member> tried = new HashSet<>();
+        while (true) {
+            tried.add(member);
+            WeatherSdkException refused;
+            try {
+                return call.apply(member.apiKey, member.transport);
+            } catch (ThrottledException ex) {
+                sideline(member, ex.getRetryAfterMillis(), false);
+                countThrottled(member);
+                refused = ex;
+            } catch (UnauthorizedException ex) {
+                if (members.size() > 1) {
+                    sideline(member, UNAUTHORIZED_SIDELINE_MILLIS, true);
+                }
+                refused = ex;
+            } finally {
+                release(member);
+            }
+            member = tryAcquire(tried);
+            if (member == null) {
+                throw refused;
+            }
+        }
+    }
+
+    /**
+     * Aggregated throttling state of all keys.
+     *
+     * <p>The pool is reported as throttled only when every key is throttled;
+     * the retry delay is that of the key that becomes usable first. Counters
+     * are summed over all keys: {@code throttledResponses} counts calls that
+     * failed with a {@link ThrottledException}, {@code rejectedRequests} counts
+     * calls refused by the pool because no key was available.</p>
+     *
+     * @return an aggregated {@link ThrottleState.Status}
+     */
+    public synchronized ThrottleState.Status throttleStatus() {
+        long now = System.currentTimeMillis();
+        boolean throttled = true;
+        long retryAfter = Long.MAX_VALUE;
+        long responses = 0;
+        long rejected = 0;
+        for (Member member : members) {
+            long sidelined = member.sidelinedMillis(now);
+            throttled &= sidelined > 0 && !member.unauthorized;
+            retryAfter = Math.min(retryAfter, sidelined);
+            responses += member.throttledResponses;
+            rejected += member.rejectedRequests;
+        }
+        return new ThrottleState.Status(throttled, throttled ? retryAfter : 0, responses, rejected);
+    }
+
+    /**
+     * Returns the current state of every key in the pool.
+     *
+     * @return one {@link KeyStatus} per key, in configuration order
+     */
+    public synchronized List<KeyStatus> status() {
+        long now = System.currentTimeMillis();
+        List<KeyStatus> statuses = new ArrayList<>(members.size());
+        for (Member member : members) {
+            long sidelined = member.sidelinedMillis(now);
+            statuses.add(new KeyStatus(mask(member.apiKey), member.weight, sidelined == 0, sidelined,
+                    member.inFlight, member.requests));
+        }
+        return statuses;
+    }
+
+    private synchronized Member acquire() {
+        Member chosen = tryAcquire(Set.of());
+        if (chosen == null) {
+            throw unavailable(System.currentTimeMillis());
+        }
+        return chosen;
+    }
+
+    /**
+     * Chooses the next available key outside {@code excluded}, or returns {@code null} if there is none.
+     */
+    private synchronized Member tryAcquire(Set<Member> excluded) {
+        long now = System.currentTimeMillis();
+        Member chosen = strategy == Strategy.WEIGHTED_ROUND_ROBIN ? nextWeighted(now, excluded) : leastUsed(now, excluded);
+        if (chosen != null) {
+            chosen.inFlight++;
+            chosen.requests++;
+        }
+        return chosen;
+    }
+
+    private synchronized void release(Member member) {
+        member.inFlight--;
+    }
+
+    private synchronized void sideline(Member member, long millis, boolean unauthorized) {
+        long until = System.currentTimeMillis() + millis;
+        if (until >= member.sidelinedUntil) {
+            member.sidelinedUntil = until;
+            member.unauthorized = unauthorized;
+        }
+    }
+
+    private synchronized void countThrottled(Member member) {
+        member.throttledResponses++;
+    }
+
+    private Member leastUsed(long now, Set<Member> excluded) {
+        Member best = null;
+        for (Member member : members) {
+            if (member.sidelinedMillis(now) > 0 || excluded.contains(member)) {
+                continue;
+            }
+            if (best == null || member.inFlight < best.inFlight
+                || (member.inFlight == best.inFlight && member.requests < best.requests)) {
+                best = member;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Smooth weighted round-robin: every available member gains its weight,
+     * the one with the highest running weight is chosen and pays back the total.
+     */
+    private Member nextWeighted(long now, Set<Member> excluded) {
+        Member best = null;
+        int total = 0;
+        for (Member member : members) {
+            if (member.sidelinedMillis(now) > 0 || excluded.contains(member)) {
+                continue;
+            }
+            member.currentWeight += member.weight;
+            total += member.weight;
+            if (best == null || member.currentWeight > best.currentWeight) {
+                best = member;
+            }
+        }
+        if (best != null) {
+            best.currentWeight -= total;
+        }
+        return best;
+    }
+
+    private static String mask(String apiKey) {
+        int visible = Math.min(4, apiKey.length() / 2);
+        return "*".repeat(apiKey.length() - visible) + apiKey.substring(apiKey.length() - visible);
+    }
+
+    private WeatherSdkException unavailable(long now) {
+        Member soonest = members.get(0);
+        for (Member member : members) {
+            if (member.sidelinedMillis(now) < soonest.sidelinedMillis(now)) {
+                soonest = member;
+            }
+        }
+        long wait = soonest.sidelinedMillis(now);
+        soonest.rejectedRequests++;
+        if (soonest.unauthorized) {
+            return new UnauthorizedException("All API keys were rejected by the provider, retry in " + wait + " ms");
+        }
+        return new ThrottledException("All API keys are throttled, retry in " + wait + " ms", wait);
+    }
+}
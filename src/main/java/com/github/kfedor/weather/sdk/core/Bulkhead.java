@@ -0,0 +1,95 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.exception.BulkheadFullException;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Separates interactive lookups from background refreshes.
+ *
+ * <p>Interactive calls (user-facing {@code getBy...} requests) and background
+ * calls (polling refreshes) draw from separate concurrency pools. Interactive
+ * calls wait for a permit if their pool is full. Background calls never wait:
+ * they are shed with a {@link BulkheadFullException} when their own pool is
+ * full or when interactive demand has saturated its pool, so a large polling
+ * sweep can never queue ahead of live requests.</p>
+ *
+ * <p>In the SDK the only background caller is {@link PollingManager}, which refreshes
+ * one entry or one group at a time on a single thread. The default background limit
+ * is therefore one permit; the protection that matters is the shedding while
+ * interactive capacity is saturated. A higher limit only has an effect for callers
+ * that issue background work from several threads.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public class Bulkhead {
+
+    static final int DEFAULT_INTERACTIVE_LIMIT = 32;
+    static final int DEFAULT_BACKGROUND_LIMIT = 1;
+
+    private final Semaphore interactive;
+    private final Semaphore background;
+    private final LongAdder shed = new LongAdder();
+
+    public Bulkhead() {
+        this(DEFAULT_INTERACTIVE_LIMIT, DEFAULT_BACKGROUND_LIMIT);
+    }
+
+    public Bulkhead(int interactiveLimit, int backgroundLimit) {
+        this.interactive = new Semaphore(interactiveLimit, true);
+        this.background = new Semaphore(backgroundLimit);
+    }
+
+    /**
+     * Runs an interactive call, waiting for capacity if necessary.
+     *
+     * @param call the call to run
+     * @param <T>  result type
+     * @return the call result
+     * @throws WeatherSdkException if the thread is interrupted while waiting
+     */
+    public <T> T interactive(Supplier<T> call) {
+        try {
+            interactive.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new WeatherSdkException("Interrupted while waiting for request capacity", ex);
+        }
+        try {
+            return call.get();
+        } finally {
+            interactive.release();
+        }
+    }
+
+    /**
+     * Runs a background call only if it does not compete with interactive traffic.
+     *
+     * @param call the call to run
+     * @throws BulkheadFullException if the call was shed
+     */
+    public void background(Runnable call) {
+        if (interactiveSaturated() || !background.tryAcquire()) {
+            shed.increment();
+            throw new BulkheadFullException("Background refresh deferred: SDK is busy with interactive requests");
+        }
+        try {
+            call.run();
+        } finally {
+            background.release();
+        }
+    }
+
+    /**
+     * Returns the number of background calls shed so far.
+     */
+    public long shedCount() {
+        return shed.sum();
+    }
+
+    private boolean interactiveSaturated() {
+        return interactive.availablePermits() == 0 || interactive.hasQueuedThreads();
+    }
+}
@@ -1,19 +1,125 @@
 package com.github.kfedor.weather.sdk.core;
 
+import com.github.kfedor.weather.sdk.model.Units;
+import com.github.kfedor.weather.sdk.model.WeatherDetails;
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * Represents a single cached weather entry.
  *
  * <p>Each cache item contains the latest weather data, the timestamp
  * when it was last updated, and the {@link RequestInfo} describing how
- * this data can be refreshed.</p>
+ * this data can be refreshed. When the cache retains JSON, the item also
+ * holds the response serialized in the SDK format as UTF-8 bytes; when raw
+ * payloads are retained, it holds a lazily decoded {@link WeatherDetails} view.
+ * Views of the response in other {@link Units} are derived from the same entry on
+ * demand and memoized in a private {@link UnitViews}, which is not part of the
+ * item's state: equality, hash code and string form cover the data only.</p>
  *
- * <p>Instances of this record are immutable and thread-safe.</p>
- *
- * @param weatherResponse cached weather data
- * @param lastUpdated     timestamp in milliseconds when the data was stored
- * @param requestInfo     information required to refresh this entry
+ * <p>The data of an item never changes; instances are thread-safe.</p>
  */
-public record CacheItem(WeatherResponse weatherResponse, long lastUpdated, RequestInfo requestInfo) {
+public final class CacheItem {
+
+    private final WeatherResponse weatherResponse;
+    private final long lastUpdated;
+    private final RequestInfo requestInfo;
+    private final ByteBuffer json;
+    private final WeatherDetails details;
+    private final UnitViews unitViews;
+
+    /**
+     * @param weatherResponse cached weather data
+     * @param lastUpdated     timestamp in milliseconds when the data was stored
+     * @param requestInfo     information required to refresh this entry
+     * @param json            read-only SDK-format JSON of {@code weatherResponse}, or {@code null} if not retained
+     * @param details         full-fidelity view of the provider payload, or {@code null} if not retained
+     */
+    public CacheItem(WeatherResponse weatherResponse, long lastUpdated, RequestInfo requestInfo, ByteBuffer json,
+                     WeatherDetails details) {
+        this.weatherResponse = weatherResponse;
+        this.lastUpdated = lastUpdated;
+        this.requestInfo = requestInfo;
+        this.json = json;
+        this.details = details;
+        this.unitViews = new UnitViews(weatherResponse);
+    }
+
+    public CacheItem(WeatherResponse weatherResponse, long lastUpdated, RequestInfo requestInfo) {
+        this(weatherResponse, lastUpdated, requestInfo, null, null);
+    }
+
+    /**
+     * Returns the cached weather data.
+     */
+    public WeatherResponse weatherResponse() {
+        return weatherResponse;
+    }
+
+    /**
+     * Returns the cached response in the given unit system.
+     *
+     * @param units requested unit system
+     * @return the cached response converted on first request and memoized
+     */
+    public WeatherResponse weatherResponse(Units units) {
+        return unitViews.get(units);
+    }
+
+    /**
+     * Returns the timestamp in milliseconds when the data was stored.
+     */
+    public long lastUpdated() {
+        return lastUpdated;
+    }
+
+    /**
+     * Returns the information required to refresh this entry.
+     */
+    public RequestInfo requestInfo() {
+        return requestInfo;
+    }
+
+    /**
+     * Returns the retained JSON as a read-only view positioned at its start.
+     *
+     * <p>Each call returns an independent view of the same bytes, so callers may
+     * consume it without affecting each other; the bytes are never copied.</p>
+     *
+     * @return the JSON bytes, or {@code null} if the cache does not retain JSON
+     */
+    public ByteBuffer json() {
+        return json == null ? null : json.duplicate();
+    }
+
+    /**
+     * Returns the full-fidelity view of the provider payload.
+     *
+     * @return the details, or {@code null} if not retained
+     */
+    public WeatherDetails details() {
+        return details;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof CacheItem item
+                                && lastUpdated == item.lastUpdated
+                                && Objects.equals(weatherResponse, item.weatherResponse)
+                                && Objects.equals(requestInfo, item.requestInfo)
+                                && Objects.equals(json, item.json)
+                                && Objects.equals(details, item.details);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(weatherResponse, lastUpdated, requestInfo, json, details);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheItem[weatherResponse=" + weatherResponse + ", lastUpdated=" + lastUpdated
+               + ", requestInfo=" + requestInfo + ", json=" + json + ", details=" + details + "]";
+    }
 }
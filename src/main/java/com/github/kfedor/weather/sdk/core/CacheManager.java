@@ -1,6 +1,13 @@
 package com.github.kfedor.weather.sdk.core;
 
+import com.github.kfedor.weather.sdk.mapper.SdkGson;
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import com.github.kfedor.weather.sdk.model.WeatherDetails;
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -15,23 +22,48 @@ import java.util.Map;
  * discards the least recently used one when the limit is exceeded.
  * Each entry expires after the configured TTL.</p>
  *
+ * <p>Optionally, each entry also keeps its response pre-serialized as SDK-format
+ * JSON, built once when the entry is written, so that serving a cached entry
+ * as JSON requires neither serialization nor copying (see {@link CacheItem#json()}).</p>
+ *
+ * <p>Entries requested by coordinates are also kept in a {@link SpatialIndex},
+ * updated on every write and eviction, so that
+ * {@link #getNearestIfNotExpired(double, double, double)} can serve a fresh
+ * observation close to, but not exactly at, the requested point.</p>
+ *
  * <p>Thread-safe: all operations are synchronized.</p>
  */
 public class CacheManager {
     private final long ttlMillis;
     private final int maxSize;
+    private final boolean retainJson;
+    private final SpatialIndex locations = new SpatialIndex();
 
     private final LinkedHashMap<String, CacheItem> leastRecentlyUsed =
             new LinkedHashMap<>(16, 0.75f, true) {
                 @Override
                 protected boolean removeEldestEntry(Map.Entry<String, CacheItem> eldest) {
-                    return size() > CacheManager.this.maxSize;
+                    if (size() <= CacheManager.this.maxSize) {
+                        return false;
+                    }
+                    locations.remove(eldest.getKey());
+                    return true;
                 }
             };
 
     public CacheManager(long ttlMillis, int maxSize) {
+        this(ttlMillis, maxSize, false);
+    }
+
+    /**
+     * @param ttlMillis  time-to-live of an entry in milliseconds
+     * @param maxSize    maximum number of entries
+     * @param retainJson whether entries keep their response serialized as JSON
+     */
+    public CacheManager(long ttlMillis, int maxSize, boolean retainJson) {
         this.ttlMillis = ttlMillis;
         this.maxSize = maxSize;
+        this.retainJson = retainJson;
     }
 
     /**
@@ -43,12 +75,83 @@ public class CacheManager {
      * @param key unique cache key
      * @return the cached {@link CacheItem} if present and valid; otherwise {@code null}
      */
-    public synchronized CacheItem getIfNotExpired(String key) {
+    public CacheItem getIfNotExpired(String key) {
+        return getIfYoungerThan(key, ttlMillis);
+    }
+
+    /**
+     * Returns a cached entry if it exists and is younger than a caller-chosen age.
+     *
+     * <p>Unlike {@link #getIfNotExpired(String)}, the bound may exceed the TTL:
+     * expired entries stay in the cache until overwritten or evicted, so a caller
+     * that tolerates older data can still be served from memory.</p>
+     *
+     * @param key          unique cache key
+     * @param maxAgeMillis maximum acceptable age of the entry in milliseconds
+     * @return the cached {@link CacheItem} if present and young enough; otherwise {@code null}
+     */
+    public synchronized CacheItem getIfYoungerThan(String key, long maxAgeMillis) {
         CacheItem cacheItem = leastRecentlyUsed.get(key);
         if (cacheItem == null) {
             return null;
         }
-        return (System.currentTimeMillis() - cacheItem.lastUpdated()) < ttlMillis ? cacheItem : null;
+        return (System.currentTimeMillis() - cacheItem.lastUpdated()) < maxAgeMillis ? cacheItem : null;
+    }
+
+    /**
+     * Returns all cached entries among the given keys that have not expired yet.
+     *
+     * <p>Checks every key under a single lock acquisition, which is cheaper than
+     * calling {@link #getIfNotExpired(String)} per key for large batches.</p>
+     *
+     * @param keys unique cache keys
+     * @return fresh entries mapped by key; keys without a fresh entry are absent
+     */
+    public synchronized Map<String, CacheItem> getAllIfNotExpired(Collection<String> keys) {
+        long now = System.currentTimeMillis();
+        Map<String, CacheItem> fresh = new HashMap<>();
+        for (String key : keys) {
+            CacheItem cacheItem = leastRecentlyUsed.get(key);
+            if (cacheItem != null && (now - cacheItem.lastUpdated()) < ttlMillis) {
+                fresh.put(key, cacheItem);
+            }
+        }
+        return fresh;
+    }
+
+    /**
+     * Returns the nearest unexpired entry requested by coordinates within a distance of a point.
+     *
+     * <p>Candidates come from the {@link SpatialIndex}, nearest first; the first one
+     * that is still fresh is returned.</p>
+     *
+     * @param latitude      latitude of the point
+     * @param longitude     longitude of the point
+     * @param maxDistanceKm maximum distance in kilometers
+     * @return the nearest fresh entry, or {@code null} if none lies within the distance
+     */
+    public CacheItem getNearestIfNotExpired(double latitude, double longitude, double maxDistanceKm) {
+        for (String key : locations.nearest(latitude, longitude, maxDistanceKm)) {
+            CacheItem cacheItem = getIfNotExpired(key);
+            if (cacheItem != null) {
+                return cacheItem;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a cached entry regardless of its age.
+     *
+     * <p>Used as a fallback when fresh data cannot be obtained, e.g. while
+     * the provider is throttling the API key. Expired entries remain in the
+     * cache until they are overwritten or evicted by the LRU policy.</p>
+     *
+     * @param key unique cache key
+     * @return the cached {@link CacheItem} if present; otherwise {@code null}
+     */
+    public synchronized CacheItem getStale(String key) {
+        return leastRecentlyUsed.get(key);
     }
 
     /**
@@ -56,14 +159,52 @@ public class CacheManager {
      *
      * <p>If the cache size exceeds its maximum capacity, the least recently used
      * entry is automatically evicted. Each stored entry includes the time it was
-     * written and the {@link RequestInfo} needed to refresh it later.</p>
+     * written and the {@link RequestInfo} needed to refresh it later. When JSON is
+     * retained, the response is serialized here, outside the cache lock.</p>
      *
      * @param key             unique cache key
      * @param weatherResponse weather data to store
      * @param requestInfo     information for refreshing this entry
+     * @return the stored entry
+     */
+    public CacheItem put(String key, WeatherResponse weatherResponse, RequestInfo requestInfo) {
+        return put(key, weatherResponse, requestInfo, null);
+    }
+
+    /**
+     * Adds or updates an entry together with the full-fidelity view of its provider payload.
+     *
+     * @param key             unique cache key
+     * @param weatherResponse weather data to store
+     * @param requestInfo     information for refreshing this entry
+     * @param details         lazily decoded provider payload, or {@code null} if not retained
+     * @return the stored entry
+     * @see #put(String, WeatherResponse, RequestInfo)
+     */
+    public CacheItem put(String key, WeatherResponse weatherResponse, RequestInfo requestInfo,
+                         WeatherDetails details) {
+        ByteBuffer json = retainJson ? toJson(weatherResponse) : null;
+        CacheItem cacheItem = new CacheItem(weatherResponse, System.currentTimeMillis(), requestInfo, json, details);
+        synchronized (this) {
+            leastRecentlyUsed.put(key, cacheItem);
+            if (requestInfo != null && requestInfo.type() == RequestInfo.Type.COORDINATES) {
+                locations.put(key, new Coordinates(requestInfo.latitude(), requestInfo.longitude()));
+            } else {
+                locations.remove(key);
+            }
+        }
+        return cacheItem;
+    }
+
+    /**
+     * Serializes a response to SDK-format JSON.
+     *
+     * @param weatherResponse response to serialize
+     * @return read-only buffer with the UTF-8 encoded JSON
      */
-    public synchronized void put(String key, WeatherResponse weatherResponse, RequestInfo requestInfo) {
-        leastRecentlyUsed.put(key, new CacheItem(weatherResponse, System.currentTimeMillis(), requestInfo));
+    public static ByteBuffer toJson(WeatherResponse weatherResponse) {
+        byte[] bytes = SdkGson.gson().toJson(weatherResponse).getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
     }
 
     /**
@@ -88,5 +229,6 @@ public class CacheManager {
      */
     public synchronized void clear() {
         leastRecentlyUsed.clear();
+        locations.clear();
     }
 }
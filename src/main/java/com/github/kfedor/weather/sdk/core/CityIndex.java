@@ -0,0 +1,164 @@
+package com.github.kfedor.weather.sdk.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Prefix index of known city names for type-ahead suggestions.
+ *
+ * <p>Names are kept in a sorted concurrent map under their canonical form (see
+ * {@link CityNames}), so the names starting with a prefix form one contiguous key
+ * range. A query walks that range and keeps the {@code limit} most frequently
+ * looked-up names in a small heap; ties are broken alphabetically. Each name keeps
+ * the spelling it was first recorded with.</p>
+ *
+ * <p>The index holds at most the configured number of names; adding a name beyond
+ * that evicts the least looked-up of {@link #EVICTION_SAMPLE} other names. The sample
+ * is taken from a cursor that moves through the key order with every eviction, so
+ * the cost of adding a name does not grow with the index and every name is
+ * eventually considered. An index no larger than the sample evicts exactly the
+ * least looked-up name.</p>
+ *
+ * <p>Thread-safe: recording and querying may run concurrently.</p>
+ */
+public class CityIndex {
+
+    static final int EVICTION_SAMPLE = 16;
+
+    private final int maxSize;
+    private final ConcurrentSkipListMap<String, City> cities = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile String evictionCursor = "";
+
+    private record City(String name, LongAdder lookups) {
+    }
+
+    /**
+     * @param maxSize maximum number of names
+     */
+    public CityIndex(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds a name without counting a lookup; known names are left unchanged.
+     *
+     * @param name city name as it should be suggested
+     */
+    public void add(String name) {
+        city(name);
+    }
+
+    /**
+     * Counts a successful lookup of a name, adding the name if it is new.
+     *
+     * @param name city name as it should be suggested
+     */
+    public void record(String name) {
+        City city = city(name);
+        if (city != null) {
+            city.lookups().increment();
+        }
+    }
+
+    /**
+     * Returns known names starting with a prefix, ignoring case and accents.
+     *
+     * @param prefix typed prefix
+     * @param limit  maximum number of names
+     * @return up to {@code limit} names, most looked-up first; empty for a blank prefix
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String from = key(prefix);
+        if (from.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Comparator<Map.Entry<String, Long>> rank = Map.Entry.<String, Long>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+        PriorityQueue<Map.Entry<String, Long>> best = new PriorityQueue<>(limit + 1, rank);
+        for (City city : cities.subMap(from, true, from + Character.MAX_VALUE, true).values()) {
+            best.add(Map.entry(city.name(), city.lookups().sum()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<String> names = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            names.add(best.poll().getKey());
+        }
+        return names.reversed();
+    }
+
+    /**
+     * Returns the number of known names.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private City city(String name) {
+        String key = key(name);
+        if (key.isEmpty()) {
+            return null;
+        }
+        City city = cities.get(key);
+        if (city != null) {
+            return city;
+        }
+        City added = new City(name.trim(), new LongAdder());
+        city = cities.putIfAbsent(key, added);
+        if (city != null) {
+            return city;
+        }
+        if (size.incrementAndGet() > maxSize) {
+            evictExcept(key);
+        }
+        return added;
+    }
+
+    private void evictExcept(String kept) {
+        Map.Entry<String, City> least = null;
+        long leastLookups = Long.MAX_VALUE;
+        String start = evictionCursor;
+        String cursor = start;
+        int sampled = 0;
+        Iterator<Map.Entry<String, City>> entries = cities.tailMap(start, false).entrySet().iterator();
+        boolean wrapped = false;
+        while (sampled < EVICTION_SAMPLE) {
+            if (!entries.hasNext()) {
+                if (wrapped) {
+                    break;
+                }
+                entries = cities.headMap(start, true).entrySet().iterator();
+                wrapped = true;
+                continue;
+            }
+            Map.Entry<String, City> entry = entries.next();
+            if (entry.getKey().equals(kept)) {
+                continue;
+            }
+            sampled++;
+            cursor = entry.getKey();
+            long lookups = entry.getValue().lookups().sum();
+            if (lookups < leastLookups) {
+                least = entry;
+                leastLookups = lookups;
+            }
+        }
+        evictionCursor = cursor;
+        if (least != null && cities.remove(least.getKey(), least.getValue())) {
+            size.decrementAndGet();
+        }
+    }
+
+    private static String key(String name) {
+        return name == null ? "" : CityNames.canonical(name);
+    }
+}
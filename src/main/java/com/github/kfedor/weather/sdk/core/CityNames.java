@@ -0,0 +1,65 @@
+package com.github.kfedor.weather.sdk.core;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of city names, shared by cache keys, the {@link Gazetteer}
+ * and the {@link CityIndex}.
+ *
+ * <p>Spellings that name the same city map to one form: compatibility
+ * decomposition (NFKD), removal of the generic diacritics in U+0300–U+036F,
+ * collapsing of whitespace runs into single spaces, lower-casing with
+ * {@link Locale#ROOT}, so the result does not depend on the default locale, and
+ * recomposition (NFC). {@code "São Paulo"}, {@code "Sao Paulo"},
+ * {@code " sao  paulo"} and {@code "SÃO PAULO"} under a Turkish default locale
+ * all become {@code "sao paulo"}.</p>
+ *
+ * <p>Marks outside that block, such as the kana voicing marks or the Devanagari
+ * vowel signs, are part of the spelling and are kept: {@code "パリ"} and
+ * {@code "バリ"} stay different names.</p>
+ *
+ * <p>Results are memoized in a small map that is emptied when full, since the same
+ * few names tend to be requested over and over.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class CityNames {
+
+    static final int MEMO_MAX = 4096;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\\p{Z}]+");
+    private static final Map<String, String> MEMO = new ConcurrentHashMap<>();
+
+    private CityNames() {
+    }
+
+    /**
+     * Returns the canonical form of a city name.
+     *
+     * @param city city name
+     * @return the canonical name; empty if the name has no letters or digits besides whitespace
+     */
+    public static String canonical(String city) {
+        String canonical = MEMO.get(city);
+        if (canonical == null) {
+            canonical = fold(city);
+            if (MEMO.size() >= MEMO_MAX) {
+                MEMO.clear();
+            }
+            MEMO.put(city, canonical);
+        }
+        return canonical;
+    }
+
+    private static String fold(String city) {
+        String decomposed = Normalizer.normalize(city, Normalizer.Form.NFKD);
+        String unmarked = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        String folded = WHITESPACE.matcher(unmarked).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+        return Normalizer.normalize(folded, Normalizer.Form.NFC);
+    }
+}
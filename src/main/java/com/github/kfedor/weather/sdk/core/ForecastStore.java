@@ -0,0 +1,126 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Per-location store of forecast time slices.
+ *
+ * <p>Each location keeps its forecast as an immutable map from slice time
+ * (Unix seconds) to the slice. A refresh merges the newly fetched slices into it:
+ * a slice equal to the stored one keeps the stored instance, only changed or new
+ * slices are replaced, and slices the provider no longer returns — the past — are
+ * dropped. Reads of a time window are served from the stored map without touching
+ * the provider.</p>
+ *
+ * <p>Locations expire after the configured TTL and the least recently used one is
+ * evicted when the store is full; an expired location is still readable as a
+ * fallback, e.g. while the provider is throttling.</p>
+ *
+ * <p>Thread-safe: all operations are synchronized; the slice maps are immutable.</p>
+ */
+public class ForecastStore {
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > ForecastStore.this.maxSize;
+        }
+    };
+
+    private record Entry(NavigableMap<Long, WeatherResponse> slices, long fetchedAt) {
+    }
+
+    /**
+     * @param ttlMillis time after which a location's forecast is refreshed, in milliseconds
+     * @param maxSize   maximum number of locations
+     */
+    public ForecastStore(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns whether the forecast for the key was fetched within the TTL.
+     *
+     * @param key location key
+     */
+    public synchronized boolean isFresh(String key) {
+        Entry entry = entries.get(key);
+        return entry != null && System.currentTimeMillis() - entry.fetchedAt() < ttlMillis;
+    }
+
+    /**
+     * Returns whether any forecast, fresh or expired, is stored for the key.
+     *
+     * @param key location key
+     */
+    public synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Merges freshly fetched slices into the stored forecast of a location.
+     *
+     * @param key     location key
+     * @param fetched slices returned by the provider
+     * @return the number of slices that were added or changed
+     */
+    public int merge(String key, List<WeatherResponse> fetched) {
+        NavigableMap<Long, WeatherResponse> previous;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            previous = entry != null ? entry.slices() : Collections.emptyNavigableMap();
+        }
+        TreeMap<Long, WeatherResponse> merged = new TreeMap<>();
+        int changed = 0;
+        for (WeatherResponse slice : fetched) {
+            WeatherResponse stored = previous.get(slice.datetime());
+            if (slice.equals(stored)) {
+                merged.put(slice.datetime(), stored);
+            } else {
+                merged.put(slice.datetime(), slice);
+                changed++;
+            }
+        }
+        Entry entry = new Entry(Collections.unmodifiableNavigableMap(merged), System.currentTimeMillis());
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the stored slices of a location within a time window.
+     *
+     * @param key  location key
+     * @param from start of the window, Unix seconds, exclusive
+     * @param to   end of the window, Unix seconds, inclusive
+     * @return the slices in time order; empty if nothing is stored for the key
+     */
+    public List<WeatherResponse> slices(String key, long from, long to) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null || from >= to) {
+            return List.of();
+        }
+        return List.copyOf(entry.slices().subMap(from, false, to, true).values());
+    }
+
+    /**
+     * Removes all locations.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
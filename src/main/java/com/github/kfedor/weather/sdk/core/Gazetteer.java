@@ -0,0 +1,168 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.MalformedResponseException;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Offline city index for geocoding without network calls.
+ *
+ * <p>Backed by a UTF-8 text file with one {@code name<TAB>latitude<TAB>longitude}
+ * line per city, names in canonical form (see {@link CityNames#canonical(String)}) and lines
+ * sorted by the UTF-8 bytes of the name. The file is memory-mapped read-only and
+ * searched by bisecting its bytes, so nothing is loaded onto the heap and a lookup
+ * costs a few dozen byte comparisons. Use {@link #write(Path, Map)} to produce a
+ * valid file.</p>
+ *
+ * <p>Files up to 2 GB are supported.</p>
+ *
+ * <p>Thread-safe: the mapping is only read with absolute accessors.</p>
+ */
+public final class Gazetteer {
+
+    private final ByteBuffer data;
+
+    private Gazetteer(ByteBuffer data) {
+        this.data = data;
+    }
+
+    /**
+     * Maps a gazetteer file into memory.
+     *
+     * @param file sorted gazetteer file
+     * @return the gazetteer
+     * @throws IOException if the file cannot be read or is larger than 2 GB
+     */
+    public static Gazetteer open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Gazetteer file is larger than 2 GB: " + file);
+            }
+            return new Gazetteer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes cities to a gazetteer file in the format {@link #open(Path)} expects.
+     *
+     * <p>Names are canonicalized and sorted; when two names canonicalize alike, the last one wins.
+     * Canonicalization turns tabs and line breaks inside a name into single spaces, so a name
+     * can never break the line layout of the file.</p>
+     *
+     * @param file   target file, replaced if it exists
+     * @param cities city names mapped to their locations
+     * @throws IOException if the file cannot be written
+     * @throws WeatherSdkException if a name is empty once canonicalized
+     */
+    public static void write(Path file, Map<String, GeocodingClient.Location> cities) throws IOException {
+        TreeMap<byte[], GeocodingClient.Location> sorted = new TreeMap<>(Arrays::compareUnsigned);
+        cities.forEach((name, location) -> sorted.put(fileName(name).getBytes(StandardCharsets.UTF_8), location));
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Map.Entry<byte[], GeocodingClient.Location> city : sorted.entrySet()) {
+                out.write(new String(city.getKey(), StandardCharsets.UTF_8));
+                out.write(String.format(Locale.ROOT, "\t%.6f\t%.6f\n",
+                        city.getValue().latitude(), city.getValue().longitude()));
+            }
+        }
+    }
+
+    /**
+     * Returns the name as written to the file, rejecting names that would corrupt the layout.
+     */
+    private static String fileName(String name) {
+        String canonical = name == null ? "" : CityNames.canonical(name);
+        if (canonical.isEmpty() || canonical.indexOf('\t') >= 0 || canonical.indexOf('\n') >= 0) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Invalid gazetteer city name: " + name);
+        }
+        return canonical;
+    }
+
+    /**
+     * Looks up a city by name.
+     *
+     * @param city city name, in any case and with or without accents
+     * @return the location of the city, or empty if the gazetteer does not know it
+     * @throws WeatherSdkException if the matching line is malformed
+     */
+    public Optional<GeocodingClient.Location> find(String city) {
+        byte[] name = CityNames.canonical(city).getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = data.limit();
+        while (low < high) {
+            int start = lineStart((low + high) >>> 1);
+            int order = compare(name, start);
+            if (order == 0) {
+                return Optional.of(location(start + name.length + 1));
+            }
+            if (order < 0) {
+                high = start;
+            } else {
+                low = lineEnd(start) + 1;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int lineStart(int position) {
+        while (position > 0 && data.get(position - 1) != '\n') {
+            position--;
+        }
+        return position;
+    }
+
+    private int lineEnd(int position) {
+        while (position < data.limit() && data.get(position) != '\n') {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Compares a name with the name of the line starting at {@code start}, as unsigned bytes.
+     */
+    private int compare(byte[] name, int start) {
+        int limit = data.limit();
+        for (int i = 0; ; i++) {
+            int position = start + i;
+            byte stored = position < limit ? data.get(position) : (byte) '\n';
+            boolean storedEnded = stored == '\t' || stored == '\n';
+            if (i == name.length) {
+                return storedEnded ? 0 : -1;
+            }
+            if (storedEnded) {
+                return 1;
+            }
+            int order = Byte.compareUnsigned(name[i], stored);
+            if (order != 0) {
+                return order;
+            }
+        }
+    }
+
+    private GeocodingClient.Location location(int position) {
+        int end = lineEnd(position);
+        byte[] fields = new byte[end - position];
+        data.get(position, fields);
+        String line = new String(fields, StandardCharsets.UTF_8);
+        int tab = line.indexOf('\t');
+        try {
+            return new GeocodingClient.Location(Double.parseDouble(line.substring(0, tab)),
+                    Double.parseDouble(line.substring(tab + 1).trim()));
+        } catch (RuntimeException ex) {
+            throw new MalformedResponseException("Malformed gazetteer line: " + line, ex);
+        }
+    }
+}
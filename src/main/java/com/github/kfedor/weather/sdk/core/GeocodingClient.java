@@ -1,41 +1,79 @@
 package com.github.kfedor.weather.sdk.core;
 
+import com.github.kfedor.weather.sdk.exception.MalformedResponseException;
+import com.github.kfedor.weather.sdk.exception.NetworkException;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
 import com.github.kfedor.weather.sdk.http.HttpConfig;
-import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.http.Transport;
 import com.github.kfedor.weather.sdk.http.UrlBuilder;
+import com.github.kfedor.weather.sdk.mapper.SdkGson;
+import com.github.kfedor.weather.sdk.model.Coordinates;
 import com.github.kfedor.weather.sdk.model.GeocodingItem;
+import com.github.kfedor.weather.sdk.model.Place;
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import java.io.IOException;
-import java.net.URI;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Low-level HTTP client for the OpenWeather Geocoding API.
  *
  * <p>This client resolves city names into geographic coordinates
  * (latitude and longitude) that can later be used to request
- * actual weather data from the weather API.</p>
+ * actual weather data from the weather API, and coordinates back
+ * into place names.</p>
  *
  * <p>Each request returns at most one matching location, but
  * the API itself can return multiple results — this client
  * only takes the first one for simplicity.</p>
  *
+ * <p>Calls are made with an API key taken from an {@link ApiKeyPool}.
+ * When a {@link Gazetteer} is configured, names it knows are resolved
+ * locally and only the others reach the provider.</p>
+ *
  * <p>Intended for internal SDK use.</p>
  */
 public class GeocodingClient {
-    private final String apiKey;
-    private final RequestExecutor http;
-    private final Gson gson = new Gson();
+
+    static final long PLACE_TTL_MILLIS = TimeUnit.DAYS.toMillis(7);
+    static final int PLACE_MAX = 10_000;
+
+    private final ApiKeyPool keys;
+    private final Gazetteer gazetteer;
+    private final PlaceCache places;
+    private final Gson gson = SdkGson.gson();
 
     public record Location(double latitude, double longitude) {
     }
 
-    public GeocodingClient(String apiKey, RequestExecutor http) {
-        this.apiKey = apiKey;
-        this.http = http;
+    public GeocodingClient(String apiKey, Transport http) {
+        this(ApiKeyPool.single(apiKey, http));
+    }
+
+    public GeocodingClient(ApiKeyPool keys) {
+        this(keys, null);
+    }
+
+    /**
+     * @param keys      API keys for provider calls
+     * @param gazetteer offline city index consulted before the provider, or {@code null} for none
+     */
+    public GeocodingClient(ApiKeyPool keys, Gazetteer gazetteer) {
+        this(keys, gazetteer, new PlaceCache(PLACE_TTL_MILLIS, PLACE_MAX));
+    }
+
+    /**
+     * @param keys      API keys for provider calls
+     * @param gazetteer offline city index consulted before the provider, or {@code null} for none
+     * @param places    cache of reverse geocoding answers
+     */
+    public GeocodingClient(ApiKeyPool keys, Gazetteer gazetteer, PlaceCache places) {
+        this.keys = keys;
+        this.gazetteer = gazetteer;
+        this.places = places;
     }
 
     /**
@@ -43,18 +81,24 @@ public class GeocodingClient {
      *
      * <p>Performs a request to the OpenWeather Geocoding API using the
      * {@code /geo/1.0/direct} endpoint with {@code limit=1}. If at least
-     * one location is found, returns its latitude and longitude.</p>
+     * one location is found, returns its latitude and longitude. Names found in
+     * the configured {@link Gazetteer} are answered without a request.</p>
      *
      * @param city the city name to resolve
      * @return an {@link Optional} containing the first matching location, or empty if not found
      * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if a network error occurs or the API returns malformed data
      */
     public Optional<Location> findFirstLocation(String city) {
+        if (gazetteer != null) {
+            Optional<Location> known = gazetteer.find(city);
+            if (known.isPresent()) {
+                return known;
+            }
+        }
         try {
-            URI uri = UrlBuilder.build(HttpConfig.GEOCODING_ENDPOINT, Map.of(
+            String json = keys.call((apiKey, http) -> http.get(UrlBuilder.build(HttpConfig.GEOCODING_ENDPOINT, Map.of(
                     "appid", apiKey, "q", city, "limit", "1"
-            ));
-            String json = http.get(uri);
+            ))));
             GeocodingItem[] items = gson.fromJson(json, GeocodingItem[].class);
             if (items == null || items.length == 0) {
                 return Optional.empty();
@@ -62,9 +106,47 @@ public class GeocodingClient {
             return Optional.of(new Location(items[0].latitude(), items[0].longitude()));
         } catch (IOException | InterruptedException ex) {
             Thread.currentThread().interrupt();
-            throw new WeatherSdkException("Network error during geocoding", ex);
+            throw new NetworkException("Network error during geocoding", ex);
+        } catch (JsonSyntaxException ex) {
+            throw new MalformedResponseException("Malformed JSON from geocoding provider", ex);
+        }
+    }
+
+    /**
+     * Resolves coordinates into the name of the nearest place.
+     *
+     * <p>Uses the {@code /geo/1.0/reverse} endpoint with {@code limit=1}. Answers are
+     * kept in a {@link PlaceCache} keyed by coordinates snapped to a fine grid and
+     * expiring after seven days, so nearby points and repeated
+     * renders of the same point cost a single provider call.</p>
+     *
+     * @param latitude  latitude of the point
+     * @param longitude longitude of the point
+     * @return the nearest place, or empty if the provider knows none
+     * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if a network error occurs or the API returns malformed data
+     */
+    public Optional<Place> reverseGeocode(double latitude, double longitude) {
+        return places.get(latitude, longitude, this::fetchPlace);
+    }
+
+    private Optional<Place> fetchPlace(Coordinates point) {
+        try {
+            String json = keys.call((apiKey, http) -> http.get(UrlBuilder.build(HttpConfig.REVERSE_GEOCODING_ENDPOINT, Map.of(
+                    "appid", apiKey,
+                    "lat", String.format(Locale.ROOT, "%.6f", point.latitude()),
+                    "lon", String.format(Locale.ROOT, "%.6f", point.longitude()),
+                    "limit", "1"
+            ))));
+            Place[] found = gson.fromJson(json, Place[].class);
+            if (found == null || found.length == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(found[0]);
+        } catch (IOException | InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new NetworkException("Network error during geocoding", ex);
         } catch (JsonSyntaxException ex) {
-            throw new WeatherSdkException("Malformed JSON from geocoding provider", ex);
+            throw new MalformedResponseException("Malformed JSON from geocoding provider", ex);
         }
     }
 }
@@ -0,0 +1,93 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.exception.NotFoundException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, short-lived memory of lookups the provider could not resolve.
+ *
+ * <p>Remembers cities the geocoding service does not know and coordinates the
+ * weather endpoint answered with 404, so repeated bad lookups — typos, bots —
+ * are answered with a map probe instead of another provider round trip.
+ * Entries expire after their own TTL, normally much shorter than the one of
+ * {@link CacheManager}, so a location that becomes resolvable is not hidden for long.
+ * When full, the least recently used entry is evicted.</p>
+ *
+ * <p>Keys are the same as those of {@link CacheManager}. The stored
+ * {@link NotFoundException} is rethrown as is, which is cheap since it carries
+ * no stack trace.</p>
+ *
+ * <p>Thread-safe: all operations are synchronized.</p>
+ */
+public class NegativeCache {
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > NegativeCache.this.maxSize;
+        }
+    };
+
+    private record Entry(NotFoundException error, long expiresAt) {
+    }
+
+    /**
+     * @param ttlMillis time-to-live of an entry in milliseconds; {@code 0} disables the cache
+     * @param maxSize   maximum number of entries
+     */
+    public NegativeCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the remembered failure for the key if it has not expired yet.
+     *
+     * @param key cache key of the lookup
+     * @return the failure to rethrow, or {@code null} if the key is not known to be missing
+     */
+    public synchronized NotFoundException get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAt()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.error();
+    }
+
+    /**
+     * Remembers that the lookup for the key could not be resolved.
+     *
+     * @param key   cache key of the lookup
+     * @param error the failure to rethrow on later lookups
+     */
+    public void put(String key, NotFoundException error) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        Entry entry = new Entry(error, System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Returns the number of remembered lookups, including expired ones not yet removed.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
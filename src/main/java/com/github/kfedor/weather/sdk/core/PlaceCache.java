@@ -0,0 +1,87 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import com.github.kfedor.weather.sdk.model.Place;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Long-lived cache of reverse geocoding answers, keyed by quantized coordinates.
+ *
+ * <p>Coordinates are snapped to a grid of {@value #QUANTUM_DEGREES} degrees
+ * (about 1.1 km north-south), so nearby map pins share one entry and one provider
+ * call. Place names change rarely, so entries live for a long TTL; answers without
+ * a place, such as points at sea, are remembered as well. When full, the least
+ * recently used entry is evicted.</p>
+ *
+ * <p>Thread-safe: all operations are synchronized; the provider is called outside the lock.</p>
+ */
+public class PlaceCache {
+
+    static final double QUANTUM_DEGREES = 0.01;
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > PlaceCache.this.maxSize;
+        }
+    };
+
+    private record Entry(Optional<Place> place, long expiresAt) {
+    }
+
+    /**
+     * @param ttlMillis time-to-live of an entry in milliseconds
+     * @param maxSize   maximum number of entries
+     */
+    public PlaceCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached place of the grid cell containing a point, resolving and
+     * caching it on a miss.
+     *
+     * @param latitude  latitude of the point
+     * @param longitude longitude of the point
+     * @param resolve   provider lookup, called with the center of the cell
+     * @return the place, or empty if the provider knows none
+     */
+    public Optional<Place> get(double latitude, double longitude, Function<Coordinates, Optional<Place>> resolve) {
+        long row = Math.round(latitude / QUANTUM_DEGREES);
+        long column = Math.round(longitude / QUANTUM_DEGREES);
+        long key = (row << 32) | (column & 0xffffffffL);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && System.currentTimeMillis() < entry.expiresAt()) {
+                return entry.place();
+            }
+        }
+        Optional<Place> place = resolve.apply(new Coordinates(row * QUANTUM_DEGREES, column * QUANTUM_DEGREES));
+        Entry entry = new Entry(place, System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+        return place;
+    }
+
+    /**
+     * Returns the number of cached cells, including expired ones not yet replaced.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -1,6 +1,9 @@
 package com.github.kfedor.weather.sdk.core;
 
+import com.github.kfedor.weather.sdk.exception.BulkheadFullException;
+import com.github.kfedor.weather.sdk.exception.ThrottledException;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -66,9 +69,14 @@ public class PollingManager {
     /**
      * Executes a single polling cycle.
      *
-     * <p>This method collects a snapshot of all cache entries
-     * and re-fetches their data from the API through
-     * {@link WeatherService#refresh(RequestInfo, String)}.</p>
+     * <p>This method collects a snapshot of all cache entries and re-fetches
+     * their data from the API. Entries whose provider city id is known are
+     * refreshed in group calls through {@link WeatherService#refreshGrouped(Map)};
+     * the others one by one through {@link WeatherService#refresh(RequestInfo, String)}.</p>
+     *
+     * <p>If the provider starts throttling the API key, or refreshes are shed
+     * because interactive requests saturate capacity, the rest of the cycle is
+     * deferred; the remaining entries are picked up by the next cycle.</p>
      *
      * <p>It is typically called automatically by the scheduler
      * at fixed intervals, but may also be invoked manually for testing.</p>
@@ -76,12 +84,18 @@ public class PollingManager {
     private void tick() {
         try {
             Map<String, RequestInfo> snapshot = cache.snapshotRequests();
-            snapshot.forEach((key, info) -> {
+            Set<String> grouped = service.refreshGrouped(snapshot);
+            for (Map.Entry<String, RequestInfo> entry : snapshot.entrySet()) {
+                if (grouped.contains(entry.getKey())) {
+                    continue;
+                }
                 try {
-                    service.refresh(info, key);
+                    service.refresh(entry.getValue(), entry.getKey());
+                } catch (ThrottledException | BulkheadFullException deferred) {
+                    return;
                 } catch (Exception ignored) {
                 }
-            });
+            }
         } catch (Exception ignored) {
         }
     }
@@ -7,10 +7,20 @@ package com.github.kfedor.weather.sdk.core;
  * a city name or geographic coordinates, along with the data
  * needed to perform that request again.</p>
  *
+ * <p>Once the data has been fetched, the provider's id of the city is
+ * remembered as well, so that the entry can be refreshed together with
+ * others through the provider's group endpoint.</p>
+ *
  * <p>This record is primarily used by the caching and polling
  * mechanisms inside the SDK.</p>
+ *
+ * @param type      whether the request is by city name or by coordinates
+ * @param city      city name for {@link Type#CITY}, otherwise {@code null}
+ * @param latitude  latitude for {@link Type#COORDINATES}
+ * @param longitude longitude for {@link Type#COORDINATES}
+ * @param cityId    provider city id, or {@code 0} if not known yet
  */
-public record RequestInfo(Type type, String city, double latitude, double longitude) {
+public record RequestInfo(Type type, String city, double latitude, double longitude, long cityId) {
 
     /**
      * Defines the type of weather request.
@@ -30,7 +40,7 @@ public record RequestInfo(Type type, String city, double latitude, double longit
      * @return a new {@code RequestInfo} instance of type {@link Type#CITY}
      */
     public static RequestInfo city(String city) {
-        return new RequestInfo(Type.CITY, city, 0, 0);
+        return new RequestInfo(Type.CITY, city, 0, 0, 0);
     }
 
     /**
@@ -42,6 +52,16 @@ public record RequestInfo(Type type, String city, double latitude, double longit
      * @return a new {@code RequestInfo} instance of type {@link Type#COORDINATES}
      */
     public static RequestInfo coordinates(double latitude, double longitude) {
-        return new RequestInfo(Type.COORDINATES, null, latitude, longitude);
+        return new RequestInfo(Type.COORDINATES, null, latitude, longitude, 0);
+    }
+
+    /**
+     * Returns a copy of this request with the provider city id set.
+     *
+     * @param cityId provider city id
+     * @return a new {@code RequestInfo} describing the same request
+     */
+    public RequestInfo withCityId(long cityId) {
+        return new RequestInfo(type, city, latitude, longitude, cityId);
     }
 }
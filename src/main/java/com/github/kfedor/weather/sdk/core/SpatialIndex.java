@@ -0,0 +1,147 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Grid index of cache keys by geographic location.
+ *
+ * <p>The globe is split into cells of {@value #CELL_DEGREES} degrees of latitude
+ * and longitude (about 11 km north-south); each cell holds the keys located in it.
+ * A radius query visits only the cells overlapping the radius, or scans every key
+ * when that would visit more cells than are occupied, and returns the keys
+ * inside the radius, nearest first.</p>
+ *
+ * <p>Thread-safe: updates and queries may run concurrently; a query sees each
+ * key either at its old or at its new location.</p>
+ */
+public class SpatialIndex {
+
+    static final double CELL_DEGREES = 0.1;
+    private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double KM_PER_DEGREE = 111.2;
+
+    private final Map<String, Coordinates> locations = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> cells = new ConcurrentHashMap<>();
+
+    /**
+     * Places a key at a location, moving it if it is already indexed.
+     *
+     * @param key      cache key
+     * @param location location of the entry
+     */
+    public void put(String key, Coordinates location) {
+        Coordinates previous = locations.put(key, location);
+        long cell = cell(location.latitude(), location.longitude());
+        if (previous != null) {
+            long previousCell = cell(previous.latitude(), previous.longitude());
+            if (previousCell == cell) {
+                return;
+            }
+            leave(previousCell, key);
+        }
+        cells.compute(cell, (id, keys) -> {
+            Set<String> members = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            members.add(key);
+            return members;
+        });
+    }
+
+    /**
+     * Removes a key from the index; unknown keys are ignored.
+     *
+     * @param key cache key
+     */
+    public void remove(String key) {
+        Coordinates previous = locations.remove(key);
+        if (previous != null) {
+            leave(cell(previous.latitude(), previous.longitude()), key);
+        }
+    }
+
+    /**
+     * Returns the keys located within a distance of a point, nearest first.
+     *
+     * @param latitude      latitude of the point
+     * @param longitude     longitude of the point
+     * @param maxDistanceKm maximum distance in kilometers
+     * @return matching keys ordered by distance
+     */
+    public List<String> nearest(double latitude, double longitude, double maxDistanceKm) {
+        Coordinates center = new Coordinates(latitude, longitude);
+        List<Map.Entry<String, Double>> found = new ArrayList<>();
+        int rowSpan = (int) Math.ceil(maxDistanceKm / (KM_PER_DEGREE * CELL_DEGREES));
+        double cosLatitude = Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + rowSpan * CELL_DEGREES)));
+        int columnSpan = (int) Math.min(COLUMNS / 2, Math.ceil(maxDistanceKm / (KM_PER_DEGREE * CELL_DEGREES * cosLatitude)));
+
+        if ((2L * rowSpan + 1) * (2L * columnSpan + 1) > cells.size()) {
+            locations.forEach((key, location) -> collect(center, key, location, maxDistanceKm, found));
+        } else {
+            int row = row(latitude);
+            int column = column(longitude);
+            for (int r = row - rowSpan; r <= row + rowSpan; r++) {
+                for (int c = column - columnSpan; c <= column + columnSpan; c++) {
+                    Set<String> keys = cells.get((long) r * COLUMNS + Math.floorMod(c, COLUMNS));
+                    if (keys == null) {
+                        continue;
+                    }
+                    for (String key : keys) {
+                        Coordinates location = locations.get(key);
+                        if (location != null) {
+                            collect(center, key, location, maxDistanceKm, found);
+                        }
+                    }
+                }
+            }
+        }
+        found.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        return found.stream().map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * Returns the number of indexed keys.
+     */
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * Removes every key from the index.
+     */
+    public void clear() {
+        locations.clear();
+        cells.clear();
+    }
+
+    private static void collect(Coordinates center, String key, Coordinates location, double maxDistanceKm,
+                                List<Map.Entry<String, Double>> found) {
+        double distance = center.distanceKm(location);
+        if (distance <= maxDistanceKm) {
+            found.add(Map.entry(key, distance));
+        }
+    }
+
+    private void leave(long cell, String key) {
+        cells.computeIfPresent(cell, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static long cell(double latitude, double longitude) {
+        return (long) row(latitude) * COLUMNS + column(longitude);
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+    }
+}
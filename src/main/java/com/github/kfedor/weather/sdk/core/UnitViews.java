@@ -0,0 +1,48 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.model.Units;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Per-entry memo of a cached response converted to other unit systems.
+ *
+ * <p>Holds the canonical response in {@link Units#STANDARD} units. A view in
+ * another unit system is computed on its first request and kept for the lifetime
+ * of the cache entry, so repeated reads in the same units allocate nothing.
+ * Concurrent first requests may compute the same view twice; the results are
+ * equal and either may be kept.</p>
+ *
+ * <p>Thread-safe. Intended for internal SDK use.</p>
+ */
+public final class UnitViews {
+
+    private final WeatherResponse standard;
+    private final AtomicReferenceArray<WeatherResponse> views =
+            new AtomicReferenceArray<>(Units.values().length);
+
+    /**
+     * @param standard canonical response in {@link Units#STANDARD} units
+     */
+    public UnitViews(WeatherResponse standard) {
+        this.standard = standard;
+    }
+
+    /**
+     * Returns the response in the given unit system.
+     *
+     * @param units requested unit system
+     * @return the canonical response for {@link Units#STANDARD}, otherwise the memoized conversion
+     */
+    public WeatherResponse get(Units units) {
+        if (units == Units.STANDARD || standard == null) {
+            return standard;
+        }
+        WeatherResponse view = views.get(units.ordinal());
+        if (view == null) {
+            view = units.convert(standard);
+            views.set(units.ordinal(), view);
+        }
+        return view;
+    }
+}
@@ -1,35 +1,68 @@
 package com.github.kfedor.weather.sdk.core;
 
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.MalformedResponseException;
+import com.github.kfedor.weather.sdk.exception.NetworkException;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
 import com.github.kfedor.weather.sdk.http.HttpConfig;
-import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.http.Transport;
 import com.github.kfedor.weather.sdk.http.UrlBuilder;
+import com.github.kfedor.weather.sdk.mapper.SdkGson;
+import com.github.kfedor.weather.sdk.mapper.WeatherResponseDecoder;
+import com.github.kfedor.weather.sdk.model.BoundingBox;
+import com.github.kfedor.weather.sdk.model.Coordinates;
 import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.WeatherDetails;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 import java.io.IOException;
-import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Low-level HTTP client responsible for communicating with the OpenWeather API.
  *
  * <p>This class handles the actual network requests to retrieve current weather data
  * by geographic coordinates. It builds a properly formatted request URL,
- * sends it via {@link com.github.kfedor.weather.sdk.http.RequestExecutor},
+ * sends it via {@link com.github.kfedor.weather.sdk.http.Transport},
  * and deserializes the JSON response into an {@link com.github.kfedor.weather.sdk.model.OpenWeatherResponse} object.</p>
  *
+ * <p>Calls are made with an API key taken from an {@link ApiKeyPool}, which may
+ * hold a single key or spread the load across several.</p>
+ *
  * <p>Intended for internal SDK use only.</p>
  */
 public class WeatherApiClient {
-    private final String apiKey;
-    private final RequestExecutor http;
-    private final Gson gson = new Gson();
 
-    public WeatherApiClient(String apiKey, RequestExecutor http) {
-        this.apiKey = apiKey;
-        this.http = http;
+    /**
+     * Maximum number of cities per request to the provider's group endpoint.
+     */
+    public static final int MAX_GROUP_SIZE = 20;
+
+    /**
+     * Maximum number of stations the provider's find endpoint returns per request.
+     */
+    public static final int MAX_FIND_SIZE = 50;
+
+    private final ApiKeyPool keys;
+    private final Gson gson = SdkGson.gson();
+
+    public WeatherApiClient(String apiKey, Transport http) {
+        this(ApiKeyPool.single(apiKey, http));
+    }
+
+    public WeatherApiClient(ApiKeyPool keys) {
+        this.keys = keys;
     }
 
     /**
@@ -45,19 +78,185 @@ public class WeatherApiClient {
      * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if a network error occurs or the provider returns invalid JSON
      */
     public OpenWeatherResponse byCoordinates(double latitude, double longitude) {
+        String json = fetch(latitude, longitude);
+        try {
+            return gson.fromJson(json, OpenWeatherResponse.class);
+        } catch (JsonSyntaxException ex) {
+            throw new MalformedResponseException("Malformed JSON from weather provider", ex);
+        }
+    }
+
+    /**
+     * Retrieves current weather for the specified coordinates together with the provider city id.
+     *
+     * <p>The response is decoded in a single streaming pass by
+     * {@link WeatherResponseDecoder}, without building the intermediate
+     * {@link com.github.kfedor.weather.sdk.model.OpenWeatherResponse}. With
+     * {@code withDetails}, the raw payload is kept for a lazily decoded
+     * {@link WeatherDetails} view.</p>
+     *
+     * @param latitude    latitude of the location
+     * @param longitude   longitude of the location
+     * @param withDetails whether to keep the raw payload for {@link WeatherDetails}
+     * @return the current weather, its city id and, if requested, its details
+     * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if a network error occurs or the provider returns invalid JSON
+     */
+    public Fetched fetchCurrent(double latitude, double longitude, boolean withDetails) {
+        String json = fetch(latitude, longitude);
+        WeatherResponseDecoder.Decoded decoded = WeatherResponseDecoder.decodeWithId(json);
+        return new Fetched(decoded.response(), decoded.cityId(),
+                withDetails ? new WeatherDetails(json.getBytes(StandardCharsets.UTF_8)) : null, decoded.coordinates());
+    }
+
+    /**
+     * Retrieves current weather for up to {@value #MAX_GROUP_SIZE} cities in one call
+     * to the provider's {@code /data/2.5/group} endpoint.
+     *
+     * <p>Cities are identified by the provider ids remembered from earlier responses.
+     * Ids the provider does not know are absent from the result. With
+     * {@code withDetails}, each city's object is cut out of the group payload
+     * and kept as its raw {@link WeatherDetails} payload.</p>
+     *
+     * @param cityIds     provider city ids, at most {@value #MAX_GROUP_SIZE}
+     * @param withDetails whether to keep each city's raw payload for {@link WeatherDetails}
+     * @return the current weather of the returned cities, in payload order
+     * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if too many ids are given,
+     *                                                                     a network error occurs or the provider returns invalid JSON
+     */
+    public List<Fetched> group(Collection<Long> cityIds, boolean withDetails) {
+        if (cityIds.size() > MAX_GROUP_SIZE) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT,
+                    "At most " + MAX_GROUP_SIZE + " cities per group request");
+        }
+        String ids = cityIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return list(call(HttpConfig.GROUP_ENDPOINT, Map.of("id", ids)), withDetails);
+    }
+
+    /**
+     * Retrieves current weather at up to {@code count} stations nearest to the given
+     * location, nearest first, in one call to the provider's {@code /data/2.5/find} endpoint.
+     *
+     * @param latitude    latitude of the center
+     * @param longitude   longitude of the center
+     * @param count       number of stations, 1 to {@value #MAX_FIND_SIZE}
+     * @param withDetails whether to keep each station's raw payload for {@link WeatherDetails}
+     * @return the current weather of the returned stations, in payload order
+     * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if the count is out of range,
+     *                                                                     a network error occurs or the provider returns invalid JSON
+     */
+    public List<Fetched> find(double latitude, double longitude, int count, boolean withDetails) {
+        if (count < 1 || count > MAX_FIND_SIZE) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT,
+                    "Station count must be between 1 and " + MAX_FIND_SIZE);
+        }
+        return list(call(HttpConfig.FIND_ENDPOINT, Map.of(
+                "lat", String.format(Locale.ROOT, "%.6f", latitude),
+                "lon", String.format(Locale.ROOT, "%.6f", longitude),
+                "cnt", String.valueOf(count))), withDetails);
+    }
+
+    /**
+     * Retrieves current weather at the stations inside a bounding box in one call
+     * to the provider's {@code /data/2.5/box/city} endpoint.
+     *
+     * <p>The provider thins out stations by map zoom: lower zoom levels return
+     * fewer, larger cities.</p>
+     *
+     * @param box         area to query
+     * @param zoom        map zoom level
+     * @param withDetails whether to keep each station's raw payload for {@link WeatherDetails}
+     * @return the current weather of the returned stations, in payload order
+     * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if a network error occurs or the provider returns invalid JSON
+     */
+    public List<Fetched> box(BoundingBox box, int zoom, boolean withDetails) {
+        String bbox = String.format(Locale.ROOT, "%.6f,%.6f,%.6f,%.6f,%d",
+                box.west(), box.south(), box.east(), box.north(), zoom);
+        return list(call(HttpConfig.BOX_ENDPOINT, Map.of("bbox", bbox)), withDetails);
+    }
+
+    /**
+     * Retrieves the 5-day forecast in 3-hour slices for the specified coordinates from
+     * the provider's {@code /data/2.5/forecast} endpoint.
+     *
+     * <p>Each slice is a {@link WeatherResponse} whose {@code datetime} is the start of
+     * the slice; {@code sys}, {@code timezone} and {@code name} are not set.</p>
+     *
+     * @param latitude  latitude of the location
+     * @param longitude longitude of the location
+     * @return the forecast slices in time order, up to 40
+     * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if a network error occurs or the provider returns invalid JSON
+     */
+    public List<WeatherResponse> forecast(double latitude, double longitude) {
+        String json = call(HttpConfig.FORECAST_ENDPOINT, Map.of(
+                "lat", String.format(Locale.ROOT, "%.6f", latitude),
+                "lon", String.format(Locale.ROOT, "%.6f", longitude)));
+        return WeatherResponseDecoder.decodeList(json).stream()
+                .map(slice -> slice.response().toBuilder().sys(null).build())
+                .toList();
+    }
+
+    /**
+     * Current weather together with the provider city id and, optionally,
+     * the full-fidelity view of the same payload.
+     *
+     * @param response    current weather in the SDK format
+     * @param cityId      provider city id, or {@code 0} if the payload has none
+     * @param details     lazily decoded view of the raw provider payload, or {@code null} if not requested
+     * @param coordinates location of the station, or {@code null} if not decoded
+     */
+    public record Fetched(WeatherResponse response, long cityId, WeatherDetails details, Coordinates coordinates) {
+    }
+
+    /**
+     * Decodes a multi-city payload. With {@code withDetails}, each city's object is
+     * cut out of the payload and kept as its raw {@link WeatherDetails} payload.
+     */
+    private static List<Fetched> list(String json, boolean withDetails) {
+        if (!withDetails) {
+            return WeatherResponseDecoder.decodeList(json).stream()
+                    .map(decoded -> new Fetched(decoded.response(), decoded.cityId(), null, decoded.coordinates()))
+                    .toList();
+        }
+        List<Fetched> cities = new ArrayList<>();
+        try {
+            JsonElement list = JsonParser.parseString(json).getAsJsonObject().get("list");
+            if (list != null && list.isJsonArray()) {
+                for (JsonElement city : list.getAsJsonArray()) {
+                    String payload = city.toString();
+                    WeatherResponseDecoder.Decoded decoded = WeatherResponseDecoder.decodeWithId(payload);
+                    cities.add(new Fetched(decoded.response(), decoded.cityId(),
+                            new WeatherDetails(payload.getBytes(StandardCharsets.UTF_8)), decoded.coordinates()));
+                }
+            }
+        } catch (JsonParseException | IllegalStateException ex) {
+            throw new MalformedResponseException("Malformed JSON from weather provider", ex);
+        }
+        return cities;
+    }
+
+    private String call(String endpoint, Map<String, String> query) {
         try {
-            URI uri = UrlBuilder.build(HttpConfig.WEATHER_ENDPOINT, Map.of(
+            return keys.call((apiKey, http) -> {
+                Map<String, String> params = new LinkedHashMap<>(query);
+                params.put("appid", apiKey);
+                return http.get(UrlBuilder.build(endpoint, params));
+            });
+        } catch (IOException | InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new NetworkException("Network error while fetching weather", ex);
+        }
+    }
+
+    private String fetch(double latitude, double longitude) {
+        try {
+            return keys.call((apiKey, http) -> http.get(UrlBuilder.build(HttpConfig.WEATHER_ENDPOINT, Map.of(
                     "appid", apiKey,
                     "lat", String.format(Locale.ROOT, "%.6f", latitude),
                     "lon", String.format(Locale.ROOT, "%.6f", longitude)
-            ));
-            String json = http.get(uri);
-            return gson.fromJson(json, OpenWeatherResponse.class);
+            ))));
         } catch (IOException | InterruptedException ex) {
             Thread.currentThread().interrupt();
-            throw new WeatherSdkException("Network error while fetching weather", ex);
-        } catch (JsonSyntaxException ex) {
-            throw new WeatherSdkException("Malformed JSON from weather provider", ex);
+            throw new NetworkException("Network error while fetching weather", ex);
         }
     }
 }
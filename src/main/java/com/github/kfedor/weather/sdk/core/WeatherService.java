@@ -1,12 +1,37 @@
 package com.github.kfedor.weather.sdk.core;
 
 
+import com.github.kfedor.weather.sdk.exception.BulkheadFullException;
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.NotFoundException;
+import com.github.kfedor.weather.sdk.exception.ThrottledException;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
-import com.github.kfedor.weather.sdk.mapper.WeatherMapper;
-import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.BoundingBox;
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import com.github.kfedor.weather.sdk.model.LookupResult;
+import com.github.kfedor.weather.sdk.model.Place;
+import com.github.kfedor.weather.sdk.model.StationWeather;
+import com.github.kfedor.weather.sdk.model.Units;
+import com.github.kfedor.weather.sdk.model.WeatherDetails;
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
-import java.util.Objects;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Core business layer of the Weather SDK.
@@ -21,14 +46,60 @@ import java.util.Optional;
  */
 public class WeatherService {
 
+    static final long NOT_FOUND_TTL_MILLIS = 60_000;
+    static final int NOT_FOUND_MAX = 1024;
+    static final int CITY_INDEX_MAX = 10_000;
+    static final int BATCH_PARALLELISM = 16;
+    static final long FORECAST_TTL_MILLIS = 30 * 60_000;
+    static final int FORECAST_MAX = 256;
+    static final int MAX_FORECAST_HOURS = 120;
+    private static final long SLICE_SECONDS = 3 * 3600;
+
     private final WeatherApiClient weather;
     private final GeocodingClient geocode;
     private final CacheManager cache;
+    private final Bulkhead bulkhead;
+    private final boolean retainDetails;
+    private final NegativeCache notFound;
+    private final CityIndex cities = new CityIndex(CITY_INDEX_MAX);
+    private final ForecastStore forecasts = new ForecastStore(FORECAST_TTL_MILLIS, FORECAST_MAX);
 
     public WeatherService(WeatherApiClient weather, GeocodingClient geocode, CacheManager cache) {
+        this(weather, geocode, cache, new Bulkhead());
+    }
+
+    public WeatherService(WeatherApiClient weather, GeocodingClient geocode, CacheManager cache, Bulkhead bulkhead) {
+        this(weather, geocode, cache, bulkhead, false);
+    }
+
+    /**
+     * @param weather       weather API client
+     * @param geocode       geocoding client
+     * @param cache         cache of fetched entries
+     * @param bulkhead      capacity split between interactive and background calls
+     * @param retainDetails whether cache entries keep the raw provider payload for {@link WeatherDetails}
+     */
+    public WeatherService(WeatherApiClient weather, GeocodingClient geocode, CacheManager cache, Bulkhead bulkhead,
+                          boolean retainDetails) {
+        this(weather, geocode, cache, bulkhead, retainDetails, new NegativeCache(NOT_FOUND_TTL_MILLIS, NOT_FOUND_MAX));
+    }
+
+    /**
+     * @param weather       weather API client
+     * @param geocode       geocoding client
+     * @param cache         cache of fetched entries
+     * @param bulkhead      capacity split between interactive and background calls
+     * @param retainDetails whether cache entries keep the raw provider payload for {@link WeatherDetails}
+     * @param notFound      memory of lookups the provider could not resolve
+     */
+    public WeatherService(WeatherApiClient weather, GeocodingClient geocode, CacheManager cache, Bulkhead bulkhead,
+                          boolean retainDetails, NegativeCache notFound) {
         this.weather = weather;
         this.geocode = geocode;
         this.cache = cache;
+        this.bulkhead = bulkhead;
+        this.retainDetails = retainDetails;
+        this.notFound = notFound;
     }
 
     /**
@@ -38,32 +109,77 @@ public class WeatherService {
      * {@link GeocodingClient} and fetches fresh data from the weather API.
      * Updates the cache with the latest result.</p>
      *
+     * <p>If the provider is throttling the API key, a stale cached entry
+     * is returned when one exists.</p>
+     *
+     * <p>A city the provider does not know is remembered in a {@link NegativeCache};
+     * until that entry expires, repeated lookups fail without a provider call.</p>
+     *
      * @param cityName target city name
      * @return a fully populated {@link com.github.kfedor.weather.sdk.model.WeatherResponse}
-     * @throws WeatherSdkException if city not found or API call fails
+     * @throws com.github.kfedor.weather.sdk.exception.NotFoundException if city not found
+     * @throws WeatherSdkException if API call fails
      */
     public WeatherResponse getByCity(String cityName) {
-        if (cityName == null || cityName.isBlank()) {
-            throw new WeatherSdkException("City must not be empty");
-        }
-        String key = Keys.formatCity(cityName);
-        CacheItem cacheItem = cache.getIfNotExpired(key);
-        if (cacheItem != null) {
-            return cacheItem.weatherResponse();
-        }
+        return cityItem(cityName).weatherResponse();
+    }
 
-        GeocodingClient.Location location = geocode.findFirstLocation(cityName)
-                .orElseThrow(() -> new WeatherSdkException("City not found: " + cityName));
-        WeatherResponse response = map(weather.byCoordinates(location.latitude(), location.longitude()));
-        cache.put(key, response, RequestInfo.city(cityName));
-        return response;
+    /**
+     * Returns current weather data for the given city in the given unit system.
+     *
+     * <p>Shares the cache entry with {@link #getByCity(String)}: the entry is fetched
+     * in standard units and the converted view is derived on first read, then memoized.</p>
+     *
+     * @param cityName target city name
+     * @param units    requested unit system
+     * @return the converted response
+     * @throws WeatherSdkException if city not found or API call fails
+     */
+    public WeatherResponse getByCity(String cityName, Units units) {
+        return cityItem(cityName).weatherResponse(units);
+    }
+
+    /**
+     * Returns current weather data for the given city, accepting cached data up to a caller-chosen age.
+     *
+     * <p>The bound replaces the cache TTL for this call only. A longer bound lets tolerant
+     * callers be served from entries the TTL already considers expired, without a provider
+     * call; a shorter one makes the SDK refetch data older than the bound. A bound of zero
+     * always fetches. The fetched entry is shared with every other caller.</p>
+     *
+     * <p>The bound also holds while the provider is throttling: instead of falling back to
+     * a stale entry older than {@code maxAge}, the {@link ThrottledException} is thrown.</p>
+     *
+     * @param cityName target city name
+     * @param maxAge   maximum acceptable age of the data
+     * @return a {@link com.github.kfedor.weather.sdk.model.WeatherResponse}
+     * @throws WeatherSdkException if the age is null or negative, city not found or API call fails
+     */
+    public WeatherResponse getByCity(String cityName, Duration maxAge) {
+        return cityItem(cityName, checkMaxAge(maxAge)).weatherResponse();
+    }
+
+    /**
+     * Returns current weather data for the given city as SDK-format JSON.
+     *
+     * <p>Behaves like {@link #getByCity(String)}. If the cache retains JSON,
+     * the bytes serialized at fetch time are returned without copying;
+     * otherwise the response is serialized on each call.</p>
+     *
+     * @param cityName target city name
+     * @return a read-only buffer with the UTF-8 encoded JSON
+     * @throws WeatherSdkException if city not found or API call fails
+     */
+    public ByteBuffer getJsonByCity(String cityName) {
+        return json(cityItem(cityName));
     }
 
     /**
      * Returns current weather data by coordinates.
      *
      * <p>Checks the cache first; if data is missing or expired,
-     * requests new data from {@link WeatherApiClient} and updates the cache.</p>
+     * requests new data from {@link WeatherApiClient} and updates the cache.
+     * While the API key is throttled, a stale cached entry is served if present.</p>
      *
      * @param latitude  of the city
      * @param longitude of the city
@@ -71,15 +187,554 @@ public class WeatherService {
      * @throws WeatherSdkException if API call fails
      */
     public WeatherResponse getByCoordinates(double latitude, double longitude) {
+        return coordinatesItem(latitude, longitude).weatherResponse();
+    }
+
+    /**
+     * Returns current weather data by coordinates in the given unit system.
+     *
+     * @param latitude  of the city
+     * @param longitude of the city
+     * @param units     requested unit system
+     * @return the converted response
+     * @throws WeatherSdkException if API call fails
+     * @see #getByCity(String, Units)
+     */
+    public WeatherResponse getByCoordinates(double latitude, double longitude, Units units) {
+        return coordinatesItem(latitude, longitude).weatherResponse(units);
+    }
+
+    /**
+     * Returns current weather data by coordinates, accepting a fresh observation nearby.
+     *
+     * <p>If any fresh entry requested by coordinates lies within {@code maxDistanceKm}
+     * of the point, the nearest one is returned without a provider call; its name and
+     * values are those of that observation. Otherwise behaves like
+     * {@link #getByCoordinates(double, double)}.</p>
+     *
+     * @param latitude      of the city
+     * @param longitude     of the city
+     * @param maxDistanceKm accepted distance to a cached observation in kilometers; {@code 0} for an exact match
+     * @return a {@link com.github.kfedor.weather.sdk.model.WeatherResponse}
+     * @throws WeatherSdkException if the distance is negative or API call fails
+     */
+    public WeatherResponse getByCoordinates(double latitude, double longitude, double maxDistanceKm) {
+        if (!(maxDistanceKm >= 0)) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Distance must not be negative");
+        }
+        if (maxDistanceKm > 0) {
+            CacheItem nearest = cache.getNearestIfNotExpired(latitude, longitude, maxDistanceKm);
+            if (nearest != null) {
+                return nearest.weatherResponse();
+            }
+        }
+        return coordinatesItem(latitude, longitude).weatherResponse();
+    }
+
+    /**
+     * Returns current weather data by coordinates, accepting cached data up to a caller-chosen age.
+     *
+     * @param latitude  of the city
+     * @param longitude of the city
+     * @param maxAge    maximum acceptable age of the data
+     * @return a {@link com.github.kfedor.weather.sdk.model.WeatherResponse}
+     * @throws WeatherSdkException if the age is null or negative or API call fails
+     * @see #getByCity(String, Duration)
+     */
+    public WeatherResponse getByCoordinates(double latitude, double longitude, Duration maxAge) {
+        return coordinatesItem(latitude, longitude, checkMaxAge(maxAge)).weatherResponse();
+    }
+
+    /**
+     * Returns current weather data by coordinates as SDK-format JSON.
+     *
+     * @param latitude  of the city
+     * @param longitude of the city
+     * @return a read-only buffer with the UTF-8 encoded JSON
+     * @throws WeatherSdkException if API call fails
+     * @see #getJsonByCity(String)
+     */
+    public ByteBuffer getJsonByCoordinates(double latitude, double longitude) {
+        return json(coordinatesItem(latitude, longitude));
+    }
+
+    /**
+     * Returns current weather data for many cities at once.
+     *
+     * <p>City names are normalized and deduplicated, so {@code "Paris"} and
+     * {@code " paris"} cost one lookup. Fresh cache entries are served in a single
+     * pass over the cache; the misses are then fetched concurrently on virtual
+     * threads, at most {@value #BATCH_PARALLELISM} calls at a time. Expired entries
+     * whose provider city id is known are packed into group calls of up to
+     * {@value WeatherApiClient#MAX_GROUP_SIZE} cities; the rest go through the same
+     * path as {@link #getByCity(String)}.</p>
+     *
+     * @param cityNames target city names
+     * @return a result for every distinct name, in input order; failures are reported per name
+     */
+    public Map<String, LookupResult> getByCities(Collection<String> cityNames) {
+        Map<String, LookupResult> results = batch(cityNames, WeatherService::cityKey, name -> loadCity(name, null));
+        results.values().stream()
+                .filter(LookupResult::isSuccess)
+                .forEach(result -> cities.record(result.response().name()));
+        return results;
+    }
+
+    /**
+     * Returns current weather data for many locations at once.
+     *
+     * @param locations target locations
+     * @return a result for every distinct location, in input order; failures are reported per location
+     * @see #getByCities(Collection)
+     */
+    public Map<Coordinates, LookupResult> getByCoordinates(Collection<Coordinates> locations) {
+        return batch(locations, WeatherService::coordinatesKey,
+                location -> coordinatesItem(location.latitude(), location.longitude()));
+    }
+
+    /**
+     * Returns the full-fidelity details of the current weather for the given city.
+     *
+     * <p>Shares the cache entry with {@link #getByCity(String)}, so no extra provider
+     * call is made; the extra fields are decoded on first access.</p>
+     *
+     * @param cityName target city name
+     * @return the lazily decoded provider payload
+     * @throws WeatherSdkException if details are not retained, city not found or API call fails
+     */
+    public WeatherDetails getDetailsByCity(String cityName) {
+        return details(cityItem(cityName));
+    }
+
+    /**
+     * Returns the full-fidelity details of the current weather by coordinates.
+     *
+     * @param latitude  of the city
+     * @param longitude of the city
+     * @return the lazily decoded provider payload
+     * @throws WeatherSdkException if details are not retained or API call fails
+     * @see #getDetailsByCity(String)
+     */
+    public WeatherDetails getDetailsByCoordinates(double latitude, double longitude) {
+        return details(coordinatesItem(latitude, longitude));
+    }
+
+    /**
+     * Returns current weather at the provider stations inside a bounding box.
+     *
+     * <p>The whole area costs one provider call. Every returned station is cached
+     * under its coordinate key, so later lookups by the same coordinates, via
+     * {@link #getByCoordinates(double, double)} or batch lookups, are served
+     * from the cache until the entry expires.</p>
+     *
+     * @param box  area to query
+     * @param zoom map zoom level; lower levels return fewer, larger cities
+     * @return the stations in provider order
+     * @throws WeatherSdkException if API call fails
+     */
+    public List<StationWeather> getInBox(BoundingBox box, int zoom) {
+        return stations(() -> weather.box(box, zoom, retainDetails), box::contains);
+    }
+
+    /**
+     * Returns current weather at up to {@code maxStations} provider stations within
+     * {@code radiusKm} of a location, nearest first.
+     *
+     * <p>The provider's find endpoint returns the nearest stations without a distance
+     * limit, so the radius is applied locally. Stations are cached like the ones of
+     * {@link #getInBox(BoundingBox, int)}.</p>
+     *
+     * @param latitude    latitude of the center
+     * @param longitude   longitude of the center
+     * @param radiusKm    search radius in kilometers
+     * @param maxStations maximum number of stations, 1 to {@value WeatherApiClient#MAX_FIND_SIZE}
+     * @return the stations inside the radius, nearest first
+     * @throws WeatherSdkException if an argument is out of range or API call fails
+     */
+    public List<StationWeather> getWithin(double latitude, double longitude, double radiusKm, int maxStations) {
+        if (!(radiusKm > 0)) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Radius must be positive");
+        }
+        Coordinates center = new Coordinates(latitude, longitude);
+        return stations(() -> weather.find(latitude, longitude, maxStations, retainDetails),
+                location -> center.distanceKm(location) <= radiusKm);
+    }
+
+    private List<StationWeather> stations(Supplier<List<WeatherApiClient.Fetched>> query,
+                                          Predicate<Coordinates> inArea) {
+        List<WeatherApiClient.Fetched> fetched = bulkhead.interactive(query);
+        List<StationWeather> stations = new ArrayList<>(fetched.size());
+        for (WeatherApiClient.Fetched station : fetched) {
+            Coordinates location = station.coordinates();
+            if (location == null || !inArea.test(location)) {
+                continue;
+            }
+            String key = Keys.coordinates(location.latitude(), location.longitude());
+            CacheItem item = store(key, RequestInfo.coordinates(location.latitude(), location.longitude()), station);
+            stations.add(new StationWeather(location, item.weatherResponse()));
+        }
+        return stations;
+    }
+
+    /**
+     * Returns the forecast for the given city over the next hours, in 3-hour slices.
+     *
+     * <p>Forecasts are kept per location in a {@link ForecastStore}. While the stored
+     * forecast is younger than {@value #FORECAST_TTL_MILLIS} ms, any window is served
+     * from it without a provider call or geocoding. Afterwards the full forecast is
+     * fetched again, as the provider offers no partial download, but only slices that
+     * changed are replaced. While the provider is throttling, the stored forecast is
+     * served even if expired.</p>
+     *
+     * @param cityName target city name
+     * @param hours    length of the window, 1 to {@value #MAX_FORECAST_HOURS}
+     * @return the slice in progress and the slices starting within the window, in time order
+     * @throws WeatherSdkException if an argument is invalid, city not found or API call fails
+     */
+    public List<WeatherResponse> getForecastByCity(String cityName, int hours) {
+        String key = cityKey(cityName);
+        return forecast(key, hours, () -> {
+            rethrowIfKnownMissing(key);
+            try {
+                GeocodingClient.Location location = geocode.findFirstLocation(cityName)
+                        .orElseThrow(() -> new NotFoundException("City not found: " + cityName));
+                return new Coordinates(location.latitude(), location.longitude());
+            } catch (NotFoundException ex) {
+                notFound.put(key, ex);
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * Returns the forecast for the given coordinates over the next hours, in 3-hour slices.
+     *
+     * @param latitude  of the location
+     * @param longitude of the location
+     * @param hours     length of the window, 1 to {@value #MAX_FORECAST_HOURS}
+     * @return the slice in progress and the slices starting within the window, in time order
+     * @throws WeatherSdkException if an argument is invalid or API call fails
+     * @see #getForecastByCity(String, int)
+     */
+    public List<WeatherResponse> getForecastByCoordinates(double latitude, double longitude, int hours) {
+        return forecast(Keys.coordinates(latitude, longitude), hours, () -> new Coordinates(latitude, longitude));
+    }
+
+    private List<WeatherResponse> forecast(String key, int hours, Supplier<Coordinates> locate) {
+        if (hours < 1 || hours > MAX_FORECAST_HOURS) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT,
+                    "Forecast hours must be between 1 and " + MAX_FORECAST_HOURS);
+        }
+        if (!forecasts.isFresh(key)) {
+            try {
+                bulkhead.interactive(() -> {
+                    Coordinates location = locate.get();
+                    return forecasts.merge(key, weather.forecast(location.latitude(), location.longitude()));
+                });
+            } catch (ThrottledException ex) {
+                if (!forecasts.contains(key)) {
+                    throw ex;
+                }
+            }
+        }
+        long now = System.currentTimeMillis() / 1000;
+        return forecasts.slices(key, now - SLICE_SECONDS, now + hours * 3600L);
+    }
+
+    /**
+     * Returns the name of the place nearest to the given coordinates.
+     *
+     * <p>Answers come from the long-lived reverse geocoding cache of
+     * {@link GeocodingClient#reverseGeocode(double, double)}; only cache misses
+     * make a provider call.</p>
+     *
+     * @param latitude  latitude of the point
+     * @param longitude longitude of the point
+     * @return the nearest place, or empty if the provider knows none
+     * @throws WeatherSdkException if API call fails
+     */
+    public Optional<Place> reverseGeocode(double latitude, double longitude) {
+        return bulkhead.interactive(() -> geocode.reverseGeocode(latitude, longitude));
+    }
+
+    /**
+     * Suggests city names starting with a prefix.
+     *
+     * <p>Served from a local {@link CityIndex} of every city successfully looked up
+     * through this service, under the name the provider returned, plus the names given
+     * to {@link #preloadCities(Collection)}; no provider call is made. Names are ranked
+     * by how often they were looked up, cache hits and batch lookups included. At most
+     * {@value #CITY_INDEX_MAX} names are kept, the least looked-up being evicted first.</p>
+     *
+     * @param prefix typed prefix, case-insensitive
+     * @param limit  maximum number of suggestions
+     * @return up to {@code limit} names, most looked-up first
+     * @throws WeatherSdkException if the limit is not positive
+     */
+    public List<String> suggestCities(String prefix, int limit) {
+        if (limit < 1) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Limit must be positive");
+        }
+        return cities.suggest(prefix, limit);
+    }
+
+    /**
+     * Adds city names to the suggestions of {@link #suggestCities(String, int)} without looking them up.
+     *
+     * @param cityNames names as they should be suggested
+     */
+    public void preloadCities(Collection<String> cityNames) {
+        cityNames.forEach(cities::add);
+    }
+
+    private static String cityKey(String cityName) {
+        String key = cityName == null ? "" : Keys.formatCity(cityName);
+        if (key.isEmpty()) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "City must not be empty");
+        }
+        return key;
+    }
+
+    private static String coordinatesKey(Coordinates location) {
+        if (location == null) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Location must not be null");
+        }
+        return Keys.coordinates(location.latitude(), location.longitude());
+    }
+
+    private CacheItem cityItem(String cityName) {
+        return cityItem(cityName, null);
+    }
+
+    private CacheItem cityItem(String cityName, Duration maxAge) {
+        CacheItem cacheItem = loadCity(cityName, maxAge);
+        cities.record(cacheItem.weatherResponse().name());
+        return cacheItem;
+    }
+
+    private CacheItem loadCity(String cityName, Duration maxAge) {
+        String key = cityKey(cityName);
+        CacheItem cacheItem = cached(key, maxAge);
+        if (cacheItem != null) {
+            return cacheItem;
+        }
+        rethrowIfKnownMissing(key);
+
+        try {
+            return bulkhead.interactive(() -> {
+                GeocodingClient.Location location = geocode.findFirstLocation(cityName)
+                        .orElseThrow(() -> new NotFoundException("City not found: " + cityName));
+                return fetch(key, location.latitude(), location.longitude(), RequestInfo.city(cityName));
+            });
+        } catch (ThrottledException ex) {
+            return staleOrThrow(key, ex, maxAge);
+        } catch (NotFoundException ex) {
+            notFound.put(key, ex);
+            throw ex;
+        }
+    }
+
+    private CacheItem coordinatesItem(double latitude, double longitude) {
+        return coordinatesItem(latitude, longitude, null);
+    }
+
+    private CacheItem coordinatesItem(double latitude, double longitude, Duration maxAge) {
         String key = Keys.coordinates(latitude, longitude);
-        CacheItem cacheItem = cache.getIfNotExpired(key);
+        CacheItem cacheItem = cached(key, maxAge);
         if (cacheItem != null) {
-            return cacheItem.weatherResponse();
+            return cacheItem;
+        }
+        rethrowIfKnownMissing(key);
+
+        try {
+            return bulkhead.interactive(() ->
+                    fetch(key, latitude, longitude, RequestInfo.coordinates(latitude, longitude)));
+        } catch (ThrottledException ex) {
+            return staleOrThrow(key, ex, maxAge);
+        } catch (NotFoundException ex) {
+            notFound.put(key, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the entry if it is fresh by the cache TTL or, when given, younger than {@code maxAge}.
+     */
+    private CacheItem cached(String key, Duration maxAge) {
+        return maxAge == null ? cache.getIfNotExpired(key) : cache.getIfYoungerThan(key, toMillis(maxAge));
+    }
+
+    private static Duration checkMaxAge(Duration maxAge) {
+        if (maxAge == null) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Maximum age must not be null");
+        }
+        if (maxAge.isNegative()) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT, "Maximum age must not be negative");
+        }
+        return maxAge;
+    }
+
+    /**
+     * Converts a maximum age to milliseconds, saturating at {@link Long#MAX_VALUE} for very long durations.
+     */
+    private static long toMillis(Duration maxAge) {
+        return maxAge.compareTo(Duration.ofMillis(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : maxAge.toMillis();
+    }
+
+    private <K> Map<K, LookupResult> batch(Collection<K> inputs, Function<K, String> keyOf,
+                                           Function<K, CacheItem> load) {
+        Map<K, String> keys = new LinkedHashMap<>();
+        Map<K, LookupResult> results = new LinkedHashMap<>();
+        for (K input : inputs) {
+            if (keys.containsKey(input) || results.containsKey(input)) {
+                continue;
+            }
+            try {
+                keys.put(input, keyOf.apply(input));
+            } catch (WeatherSdkException ex) {
+                results.put(input, LookupResult.failure(ex));
+            }
+        }
+
+        Map<String, CacheItem> hits = cache.getAllIfNotExpired(keys.values());
+        Map<String, K> misses = new LinkedHashMap<>();
+        keys.forEach((input, key) -> {
+            if (!hits.containsKey(key)) {
+                misses.putIfAbsent(key, input);
+            }
+        });
+        Map<String, LookupResult> fetched = fetchAll(misses, load);
+
+        Map<K, LookupResult> ordered = new LinkedHashMap<>();
+        for (K input : inputs) {
+            if (ordered.containsKey(input)) {
+                continue;
+            }
+            String key = keys.get(input);
+            if (key == null) {
+                ordered.put(input, results.get(input));
+            } else {
+                CacheItem hit = hits.get(key);
+                ordered.put(input, hit != null ? LookupResult.success(hit.weatherResponse()) : fetched.get(key));
+            }
+        }
+        return ordered;
+    }
+
+    private <K> Map<String, LookupResult> fetchAll(Map<String, K> misses, Function<K, CacheItem> load) {
+        Map<String, LookupResult> fetched = new ConcurrentHashMap<>();
+        Map<Long, List<String>> keysByCityId = new LinkedHashMap<>();
+        Map<String, CacheItem> stale = new HashMap<>();
+        List<Runnable> tasks = new ArrayList<>();
+        misses.forEach((key, input) -> {
+            CacheItem expired = cache.getStale(key);
+            if (expired != null && expired.requestInfo().cityId() > 0) {
+                stale.put(key, expired);
+                keysByCityId.computeIfAbsent(expired.requestInfo().cityId(), id -> new ArrayList<>()).add(key);
+            } else {
+                tasks.add(() -> fetched.put(key, lookup(input, load)));
+            }
+        });
+        for (List<Long> chunk : chunks(keysByCityId.keySet())) {
+            tasks.add(() -> fetchGroup(chunk, keysByCityId, stale, fetched, key -> lookup(misses.get(key), load)));
+        }
+        runConcurrently(tasks);
+        return fetched;
+    }
+
+    /**
+     * Fetches expired entries with known city ids in one group call. Keys the
+     * provider leaves unanswered fall back to a single lookup; while throttled,
+     * the expired entries themselves are served.
+     */
+    private void fetchGroup(List<Long> cityIds, Map<Long, List<String>> keysByCityId, Map<String, CacheItem> stale,
+                            Map<String, LookupResult> fetched, Function<String, LookupResult> single) {
+        List<String> keys = new ArrayList<>();
+        cityIds.forEach(id -> keys.addAll(keysByCityId.get(id)));
+        try {
+            List<WeatherApiClient.Fetched> cities = bulkhead.interactive(() -> weather.group(cityIds, retainDetails));
+            for (WeatherApiClient.Fetched city : cities) {
+                for (String key : keysByCityId.getOrDefault(city.cityId(), List.of())) {
+                    CacheItem item = store(key, stale.get(key).requestInfo(), city);
+                    fetched.put(key, LookupResult.success(item.weatherResponse()));
+                }
+            }
+        } catch (ThrottledException ex) {
+            keys.forEach(key -> fetched.put(key, LookupResult.success(stale.get(key).weatherResponse())));
+        } catch (WeatherSdkException ex) {
+            keys.forEach(key -> fetched.put(key, LookupResult.failure(ex)));
+        }
+        for (String key : keys) {
+            if (!fetched.containsKey(key)) {
+                fetched.put(key, single.apply(key));
+            }
+        }
+    }
+
+    private static void runConcurrently(List<Runnable> tasks) {
+        if (tasks.isEmpty()) {
+            return;
         }
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < tasks.size(); i = next.getAndIncrement()) {
+                tasks.get(i).run();
+            }
+        };
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = Math.min(BATCH_PARALLELISM, tasks.size()); i > 0; i--) {
+                executor.execute(worker);
+            }
+        }
+    }
+
+    private static <K> LookupResult lookup(K input, Function<K, CacheItem> load) {
+        try {
+            return LookupResult.success(load.apply(input).weatherResponse());
+        } catch (WeatherSdkException ex) {
+            return LookupResult.failure(ex);
+        } catch (RuntimeException ex) {
+            return LookupResult.failure(new WeatherSdkException("Unexpected failure in batch lookup", ex));
+        }
+    }
+
+    private void rethrowIfKnownMissing(String key) {
+        NotFoundException missing = notFound.get(key);
+        if (missing != null) {
+            throw missing;
+        }
+    }
 
-        WeatherResponse response = map(weather.byCoordinates(latitude, longitude));
-        cache.put(key, response, RequestInfo.coordinates(latitude, longitude));
-        return response;
+    private CacheItem fetch(String key, double latitude, double longitude, RequestInfo info) {
+        return store(key, info, weather.fetchCurrent(latitude, longitude, retainDetails));
+    }
+
+    private CacheItem store(String key, RequestInfo info, WeatherApiClient.Fetched fetched) {
+        RequestInfo known = fetched.cityId() > 0 && fetched.cityId() != info.cityId()
+                ? info.withCityId(fetched.cityId()) : info;
+        return cache.put(key, fetched.response(), known, fetched.details());
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> cityIds) {
+        List<Long> ids = new ArrayList<>(cityIds);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += WeatherApiClient.MAX_GROUP_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + WeatherApiClient.MAX_GROUP_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static WeatherDetails details(CacheItem cacheItem) {
+        WeatherDetails details = cacheItem.details();
+        if (details == null) {
+            throw new WeatherSdkException("Weather details are not retained by this SDK instance");
+        }
+        return details;
+    }
+
+    private static ByteBuffer json(CacheItem cacheItem) {
+        ByteBuffer json = cacheItem.json();
+        return json != null ? json : CacheManager.toJson(cacheItem.weatherResponse());
     }
 
     /**
@@ -89,38 +744,89 @@ public class WeatherService {
      * without explicit user requests. The refreshed result replaces the
      * old cache entry for the given key.</p>
      *
+     * <p>Runs as background work in the {@link Bulkhead}: while interactive
+     * requests saturate capacity, the refresh is shed instead of competing with them.</p>
+     *
      * @param info     request metadata (city or coordinates)
      * @param cacheKey key of the cache entry to refresh
+     * @throws com.github.kfedor.weather.sdk.exception.BulkheadFullException if the refresh was shed
      */
     public void refresh(RequestInfo info, String cacheKey) {
-        if (info.type() == RequestInfo.Type.CITY) {
-            Optional<GeocodingClient.Location> location = geocode.findFirstLocation(info.city());
-            location.ifPresent(loc ->
-                    cache.put(cacheKey, map(weather.byCoordinates(loc.latitude(), loc.longitude())), info));
-        } else {
-            cache.put(cacheKey, map(weather.byCoordinates(info.latitude(), info.longitude())), info);
+        bulkhead.background(() -> {
+            if (info.type() == RequestInfo.Type.CITY) {
+                Optional<GeocodingClient.Location> location = geocode.findFirstLocation(info.city());
+                location.ifPresent(loc -> fetch(cacheKey, loc.latitude(), loc.longitude(), info));
+            } else {
+                fetch(cacheKey, info.latitude(), info.longitude(), info);
+            }
+        });
+    }
+
+    /**
+     * Refreshes the given entries whose provider city id is known through the
+     * provider's group endpoint, up to {@value WeatherApiClient#MAX_GROUP_SIZE}
+     * cities per call.
+     *
+     * <p>Each group call runs as one background call in the {@link Bulkhead}.
+     * Entries without a known city id, or left unanswered because their group
+     * call failed, are not refreshed and should go through
+     * {@link #refresh(RequestInfo, String)}.</p>
+     *
+     * @param entries cache keys mapped to their request metadata
+     * @return keys of the entries that were refreshed
+     * @throws ThrottledException if the provider throttles a group call
+     * @throws com.github.kfedor.weather.sdk.exception.BulkheadFullException if a group call was shed
+     */
+    public Set<String> refreshGrouped(Map<String, RequestInfo> entries) {
+        Map<Long, List<String>> keysByCityId = new LinkedHashMap<>();
+        entries.forEach((key, info) -> {
+            if (info.cityId() > 0) {
+                keysByCityId.computeIfAbsent(info.cityId(), id -> new ArrayList<>()).add(key);
+            }
+        });
+        Set<String> refreshed = new HashSet<>();
+        for (List<Long> chunk : chunks(keysByCityId.keySet())) {
+            try {
+                bulkhead.background(() -> {
+                    for (WeatherApiClient.Fetched fetched : weather.group(chunk, retainDetails)) {
+                        for (String key : keysByCityId.getOrDefault(fetched.cityId(), List.of())) {
+                            store(key, entries.get(key), fetched);
+                            refreshed.add(key);
+                        }
+                    }
+                });
+            } catch (ThrottledException | BulkheadFullException ex) {
+                throw ex;
+            } catch (WeatherSdkException ignored) {
+            }
         }
+        return refreshed;
     }
 
     /**
-     * Clears all entries from the internal cache.
+     * Clears all entries from the internal cache, the stored forecasts and the memory of unresolved lookups.
      * <p>Typically called when the SDK is destroyed or reset.</p>
      */
     public void clear() {
         cache.clear();
+        notFound.clear();
+        forecasts.clear();
     }
 
     /**
-     * Converts a raw OpenWeather response into a standard SDK model.
-     *
-     * <p>Delegates to {@link com.github.kfedor.weather.sdk.mapper.WeatherMapper}
-     * for data transformation.</p>
-     *
-     * @param openWeatherResponse raw provider response
-     * @return simplified weather model
+     * Returns the cached entry in place of a throttled fetch. A call with a caller-chosen
+     * {@code maxAge} already got every entry younger than it from the cache, so it never
+     * falls back.
      */
-    private WeatherResponse map(OpenWeatherResponse openWeatherResponse) {
-        return WeatherMapper.toSdk(Objects.requireNonNull(openWeatherResponse));
+    private CacheItem staleOrThrow(String key, ThrottledException throttled, Duration maxAge) {
+        if (maxAge != null) {
+            throw throttled;
+        }
+        CacheItem stale = cache.getStale(key);
+        if (stale == null) {
+            throw throttled;
+        }
+        return stale;
     }
 
     /**
@@ -132,10 +838,11 @@ public class WeatherService {
     static final class Keys {
 
         /**
-         * Normalizes a city name to lowercase and trims extra spaces.
+         * Normalizes a city name with {@link CityNames#canonical(String)}: accents are
+         * dropped, whitespace collapsed and the name lower-cased independently of the locale.
          */
         static String formatCity(String cityName) {
-            return cityName.trim().toLowerCase();
+            return CityNames.canonical(cityName);
         }
 
         /**
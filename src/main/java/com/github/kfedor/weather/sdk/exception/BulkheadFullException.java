@@ -0,0 +1,11 @@
+package com.github.kfedor.weather.sdk.exception;
+
+/**
+ * Signals that a background call was shed because the SDK is busy
+ * serving interactive requests or its background capacity is exhausted.
+ *
+ * <p>Created without a stack trace.</p>
+ */
+public class BulkheadFullException extends WeatherSdkException {
+    public BulkheadFullException(String message) { super(ErrorCode.CAPACITY, message, false); }
+}
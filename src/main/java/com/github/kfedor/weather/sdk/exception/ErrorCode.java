@@ -0,0 +1,55 @@
+package com.github.kfedor.weather.sdk.exception;
+
+/**
+ * Machine-readable category of a {@link WeatherSdkException}.
+ *
+ * <p>Lets callers tell failures apart without parsing messages, e.g. to map
+ * them to HTTP statuses of their own API or to decide whether to retry.</p>
+ */
+public enum ErrorCode {
+
+    /**
+     * Failure without a more specific category.
+     */
+    GENERAL,
+
+    /**
+     * The caller passed an invalid argument, such as a blank city name.
+     */
+    INVALID_ARGUMENT,
+
+    /**
+     * The city or resource does not exist at the provider.
+     */
+    NOT_FOUND,
+
+    /**
+     * The provider rejected the API key (HTTP 401 or 403).
+     */
+    UNAUTHORIZED,
+
+    /**
+     * The provider is throttling the API key (HTTP 429).
+     */
+    THROTTLED,
+
+    /**
+     * The provider answered with an unexpected status, typically a 5xx.
+     */
+    UPSTREAM,
+
+    /**
+     * The provider could not be reached.
+     */
+    NETWORK,
+
+    /**
+     * The provider response or cached data could not be parsed.
+     */
+    PARSE,
+
+    /**
+     * The SDK shed the call because its capacity is exhausted.
+     */
+    CAPACITY
+}
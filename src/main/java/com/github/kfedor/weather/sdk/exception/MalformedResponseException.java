@@ -0,0 +1,9 @@
+package com.github.kfedor.weather.sdk.exception;
+
+/**
+ * Signals that a provider response or cached binary data could not be parsed.
+ */
+public class MalformedResponseException extends WeatherSdkException {
+    public MalformedResponseException(String message) { super(ErrorCode.PARSE, message); }
+    public MalformedResponseException(String message, Throwable cause) { super(ErrorCode.PARSE, message, cause); }
+}
@@ -0,0 +1,8 @@
+package com.github.kfedor.weather.sdk.exception;
+
+/**
+ * Signals that the provider could not be reached.
+ */
+public class NetworkException extends WeatherSdkException {
+    public NetworkException(String message, Throwable cause) { super(ErrorCode.NETWORK, message, cause); }
+}
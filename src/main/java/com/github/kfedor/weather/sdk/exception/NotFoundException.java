@@ -0,0 +1,13 @@
+package com.github.kfedor.weather.sdk.exception;
+
+/**
+ * Signals that the requested city or resource does not exist at the provider.
+ *
+ * <p>Created without a stack trace. {@link #HTTP_404} is a shared instance
+ * for provider 404 answers.</p>
+ */
+public class NotFoundException extends WeatherSdkException {
+    public static final NotFoundException HTTP_404 = new NotFoundException("Not found (HTTP 404)");
+
+    public NotFoundException(String message) { super(ErrorCode.NOT_FOUND, message, false); }
+}
@@ -0,0 +1,24 @@
+package com.github.kfedor.weather.sdk.exception;
+
+/**
+ * Signals that the provider is throttling requests for the current API key.
+ *
+ * <p>Thrown both when the provider answers with HTTP 429 and when the SDK
+ * rejects a call locally because the key is still inside a throttling window.
+ * {@link #getRetryAfterMillis()} tells how long callers should wait before
+ * the key is expected to be usable again.</p>
+ *
+ * <p>Created without a stack trace.</p>
+ */
+public class ThrottledException extends WeatherSdkException {
+    private final long retryAfterMillis;
+
+    public ThrottledException(String message, long retryAfterMillis) {
+        super(ErrorCode.THROTTLED, message, false);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
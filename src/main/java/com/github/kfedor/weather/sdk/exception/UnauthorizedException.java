@@ -0,0 +1,23 @@
+package com.github.kfedor.weather.sdk.exception;
+
+/**
+ * Signals that the provider rejected the API key (HTTP 401 or 403).
+ *
+ * <p>Created without a stack trace. {@link #forStatus(int)} returns shared
+ * instances for the provider answers.</p>
+ */
+public class UnauthorizedException extends WeatherSdkException {
+    private static final UnauthorizedException HTTP_401 = new UnauthorizedException("Unauthorized: bad API key (HTTP 401)");
+    private static final UnauthorizedException HTTP_403 = new UnauthorizedException("Unauthorized: bad API key (HTTP 403)");
+
+    public UnauthorizedException(String message) { super(ErrorCode.UNAUTHORIZED, message, false); }
+
+    /**
+     * Returns the shared exception for a provider answer with the given status.
+     *
+     * @param statusCode 401 or 403
+     */
+    public static UnauthorizedException forStatus(int statusCode) {
+        return statusCode == 403 ? HTTP_403 : HTTP_401;
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.kfedor.weather.sdk.exception;
+
+/**
+ * Signals that the provider answered with an unexpected HTTP status, typically a 5xx.
+ *
+ * <p>Created without a stack trace.</p>
+ */
+public class UpstreamException extends WeatherSdkException {
+    private final int statusCode;
+
+    public UpstreamException(int statusCode) {
+        super(ErrorCode.UPSTREAM, "HTTP error " + statusCode + " from provider", false);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
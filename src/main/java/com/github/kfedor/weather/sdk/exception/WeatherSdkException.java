@@ -1,6 +1,42 @@
 package com.github.kfedor.weather.sdk.exception;
 
+/**
+ * Base class of all exceptions thrown by the SDK.
+ *
+ * <p>{@link #getCode()} tells the failure category. Subclasses for expected
+ * failures — a missing city, a rejected key, throttling — are created without
+ * a stack trace, since they describe provider answers rather than bugs and may
+ * be thrown at a high rate; some of them are shared, immutable instances.</p>
+ */
 public class WeatherSdkException extends RuntimeException {
-    public WeatherSdkException(String message) { super(message); }
-    public WeatherSdkException(String message, Throwable cause) { super(message, cause); }
-}
\ No newline at end of file
+    private final ErrorCode code;
+
+    public WeatherSdkException(String message) { this(ErrorCode.GENERAL, message); }
+    public WeatherSdkException(String message, Throwable cause) { this(ErrorCode.GENERAL, message, cause); }
+    public WeatherSdkException(ErrorCode code, String message) { this(code, message, null); }
+
+    public WeatherSdkException(ErrorCode code, String message, Throwable cause) {
+        super(message, cause);
+        this.code = code;
+    }
+
+    /**
+     * Creates an exception that may skip stack trace capture.
+     *
+     * <p>With {@code writableStackTrace} set to {@code false}, neither a stack trace
+     * nor suppressed exceptions are recorded, so the instance is cheap to create
+     * and safe to share.</p>
+     *
+     * @param code               failure category
+     * @param message            detail message
+     * @param writableStackTrace whether the stack trace is filled in
+     */
+    protected WeatherSdkException(ErrorCode code, String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.code = code;
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+}
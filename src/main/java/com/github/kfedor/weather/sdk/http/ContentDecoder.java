@@ -0,0 +1,89 @@
+package com.github.kfedor.weather.sdk.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Decodes compressed HTTP response bodies.
+ *
+ * <p>Supports the {@code gzip} and {@code deflate} content codings advertised by
+ * {@link RequestExecutor} through {@code Accept-Encoding}. For {@code deflate},
+ * both the zlib-wrapped form required by RFC 9110 and the raw DEFLATE stream
+ * sent by some servers are accepted.</p>
+ *
+ * <p>This class is stateless and thread-safe.</p>
+ */
+public final class ContentDecoder {
+
+    /**
+     * Value sent in the {@code Accept-Encoding} request header.
+     */
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private ContentDecoder() {
+    }
+
+    /**
+     * Decodes a response body according to its {@code Content-Encoding}
+     * and returns it as a UTF-8 string.
+     *
+     * @param body     raw response bytes
+     * @param encoding value of the {@code Content-Encoding} header, may be {@code null}
+     * @return the decoded body
+     * @throws IOException if the body is not valid for the declared encoding
+     *                     or the encoding is not supported
+     */
+    public static String decode(byte[] body, String encoding) throws IOException {
+        if (encoding == null || encoding.isBlank()) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        return switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case "identity" -> new String(body, StandardCharsets.UTF_8);
+            case "gzip", "x-gzip" -> readAll(new GZIPInputStream(new ByteArrayInputStream(body), BUFFER_SIZE));
+            case "deflate" -> inflate(body);
+            default -> throw new IOException("Unsupported content encoding: " + encoding);
+        };
+    }
+
+    private static String inflate(byte[] body) throws IOException {
+        return inflate(body, new Inflater(!hasZlibHeader(body)));
+    }
+
+    /**
+     * Checks for a zlib header (RFC 1950): compression method 8 and a
+     * header checksum divisible by 31.
+     */
+    private static boolean hasZlibHeader(byte[] body) {
+        if (body.length < 2) {
+            return false;
+        }
+        int cmf = body[0] & 0xFF;
+        int flg = body[1] & 0xFF;
+        return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    private static String inflate(byte[] body, Inflater inflater) throws IOException {
+        try {
+            return readAll(new InflaterInputStream(new ByteArrayInputStream(body), inflater, BUFFER_SIZE));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        try (in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+            in.transferTo(out);
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -14,5 +14,10 @@ package com.github.kfedor.weather.sdk.http;
  */
 public class HttpConfig {
     public static final String WEATHER_ENDPOINT = "https://api.openweathermap.org/data/2.5/weather";
+    public static final String GROUP_ENDPOINT = "https://api.openweathermap.org/data/2.5/group";
+    public static final String FORECAST_ENDPOINT = "https://api.openweathermap.org/data/2.5/forecast";
+    public static final String FIND_ENDPOINT = "https://api.openweathermap.org/data/2.5/find";
+    public static final String BOX_ENDPOINT = "https://api.openweathermap.org/data/2.5/box/city";
     public static final String GEOCODING_ENDPOINT = "http://api.openweathermap.org/geo/1.0/direct";
+    public static final String REVERSE_GEOCODING_ENDPOINT = "http://api.openweathermap.org/geo/1.0/reverse";
 }
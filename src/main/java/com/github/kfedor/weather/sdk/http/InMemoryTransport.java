@@ -0,0 +1,284 @@
+package com.github.kfedor.weather.sdk.http;
+
+import com.github.kfedor.weather.sdk.exception.NotFoundException;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process {@link Transport} that serves canned or generated JSON without network access.
+ *
+ * <p>Responses are produced by {@link Responder}s registered per URI path
+ * (e.g. {@code /data/2.5/weather}). Each call is delayed according to a
+ * {@link Latency} model, so the full SDK pipeline can be load-tested and profiled
+ * under realistic or zero latency without touching the provider.</p>
+ *
+ * <pre>{@code
+ * Transport transport = InMemoryTransport.synthetic(InMemoryTransport.Latency.none());
+ * WeatherSdk sdk = WeatherSdkFactory.create("bench-key", WeatherSdk.Mode.ON_DEMAND, 60, transport);
+ * }</pre>
+ *
+ * <p>Thread-safe.</p>
+ */
+public class InMemoryTransport implements Transport {
+
+    private final Map<String, Responder> responders = new ConcurrentHashMap<>();
+    private final Latency latency;
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * Produces a response body for a request URI.
+     *
+     * <p>Implementations may throw a
+     * {@link com.github.kfedor.weather.sdk.exception.WeatherSdkException}
+     * to simulate provider errors.</p>
+     */
+    @FunctionalInterface
+    public interface Responder {
+        String respond(URI uri);
+    }
+
+    /**
+     * Latency distribution applied to every simulated request.
+     */
+    @FunctionalInterface
+    public interface Latency {
+
+        /**
+         * @return the delay of the next request in nanoseconds
+         */
+        long nextNanos();
+
+        /**
+         * No delay at all.
+         */
+        static Latency none() {
+            return () -> 0L;
+        }
+
+        /**
+         * The same delay for every request.
+         */
+        static Latency fixed(Duration delay) {
+            long nanos = delay.toNanos();
+            return () -> nanos;
+        }
+
+        /**
+         * Delay uniformly distributed in {@code [min, max]}.
+         */
+        static Latency uniform(Duration min, Duration max) {
+            long from = min.toNanos();
+            long to = max.toNanos();
+            return () -> from == to ? from : ThreadLocalRandom.current().nextLong(from, to + 1);
+        }
+
+        /**
+         * Log-normally distributed delay, the usual shape of real network latency:
+         * most requests take about {@code median}, with a long tail controlled by {@code sigma}.
+         */
+        static Latency logNormal(Duration median, double sigma) {
+            double mu = Math.log(median.toNanos());
+            return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+        }
+    }
+
+    public InMemoryTransport(Latency latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Creates a transport that generates plausible OpenWeather responses for any
+     * city or coordinates: the geocoding endpoint derives stable coordinates from
+     * the city name, and the weather endpoint derives values from the coordinates.
+     *
+     * @param latency latency model for every request
+     * @return a ready-to-use transport
+     */
+    public static InMemoryTransport synthetic(Latency latency) {
+        return new InMemoryTransport(latency)
+                .route(URI.create(HttpConfig.GEOCODING_ENDPOINT).getPath(), InMemoryTransport::syntheticGeocoding)
+                .route(URI.create(HttpConfig.REVERSE_GEOCODING_ENDPOINT).getPath(), InMemoryTransport::syntheticPlace)
+                .route(URI.create(HttpConfig.WEATHER_ENDPOINT).getPath(), InMemoryTransport::syntheticWeather)
+                .route(URI.create(HttpConfig.GROUP_ENDPOINT).getPath(), InMemoryTransport::syntheticGroup)
+                .route(URI.create(HttpConfig.FORECAST_ENDPOINT).getPath(), InMemoryTransport::syntheticForecast)
+                .route(URI.create(HttpConfig.FIND_ENDPOINT).getPath(), InMemoryTransport::syntheticFind)
+                .route(URI.create(HttpConfig.BOX_ENDPOINT).getPath(), InMemoryTransport::syntheticBox);
+    }
+
+    /**
+     * Registers a responder for the given URI path, replacing any existing one.
+     *
+     * @param path      URI path such as {@code /data/2.5/weather}
+     * @param responder response producer
+     * @return this transport
+     */
+    public InMemoryTransport route(String path, Responder responder) {
+        responders.put(path, responder);
+        return this;
+    }
+
+    /**
+     * Registers a fixed response body for the given URI path.
+     *
+     * @param path URI path such as {@code /geo/1.0/direct}
+     * @param body JSON body returned for every request to this path
+     * @return this transport
+     */
+    public InMemoryTransport route(String path, String body) {
+        return route(path, uri -> body);
+    }
+
+    /**
+     * Returns the number of requests served so far.
+     */
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public String get(URI uri) throws InterruptedException {
+        requests.increment();
+        long delay = latency.nextNanos();
+        if (delay > 0) {
+            LockSupport.parkNanos(delay);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        Responder responder = responders.get(uri.getPath());
+        if (responder == null) {
+            throw NotFoundException.HTTP_404;
+        }
+        return responder.respond(uri);
+    }
+
+    private static String syntheticGeocoding(URI uri) {
+        String city = query(uri).getOrDefault("q", "");
+        int hash = city.trim().toLowerCase(Locale.ROOT).hashCode();
+        double latitude = Math.floorMod(hash, 180_000) / 1000.0 - 90.0;
+        double longitude = Math.floorMod(hash >>> 7, 360_000) / 1000.0 - 180.0;
+        return String.format(Locale.ROOT, "[{\"name\":\"%s\",\"lat\":%.4f,\"lon\":%.4f}]",
+                city.replace("\"", ""), latitude, longitude);
+    }
+
+    private static String syntheticPlace(URI uri) {
+        Map<String, String> query = query(uri);
+        double latitude = Double.parseDouble(query.getOrDefault("lat", "0"));
+        double longitude = Double.parseDouble(query.getOrDefault("lon", "0"));
+        return String.format(Locale.ROOT, "[{\"name\":\"Synthetic %.2f,%.2f\",\"lat\":%.4f,\"lon\":%.4f,\"country\":\"XX\"}]",
+                latitude, longitude, latitude, longitude);
+    }
+
+    private static String syntheticWeather(URI uri) {
+        Map<String, String> query = query(uri);
+        double latitude = Double.parseDouble(query.getOrDefault("lat", "0"));
+        double longitude = Double.parseDouble(query.getOrDefault("lon", "0"));
+        return syntheticCity(latitude, longitude, (long) Math.abs(latitude * 1000 + longitude));
+    }
+
+    private static String syntheticGroup(URI uri) {
+        StringJoiner list = new StringJoiner(",", "{\"list\":[", "]}");
+        for (String id : query(uri).getOrDefault("id", "").split(",")) {
+            if (!id.isBlank()) {
+                long cityId = Long.parseLong(id.trim());
+                list.add(syntheticCity(Math.floorMod(cityId, 180_000) / 1000.0 - 90.0,
+                        Math.floorMod(cityId * 31, 360_000) / 1000.0 - 180.0, cityId));
+            }
+        }
+        return list.toString();
+    }
+
+    /**
+     * Forty 3-hour slices starting at the current slot, warming by 0.5 K per slice.
+     */
+    private static String syntheticForecast(URI uri) {
+        Map<String, String> query = query(uri);
+        double latitude = Double.parseDouble(query.getOrDefault("lat", "0"));
+        long start = System.currentTimeMillis() / 1000 / 10_800 * 10_800;
+        StringJoiner list = new StringJoiner(",", "{\"cnt\":40,\"list\":[", "]}");
+        for (int i = 0; i < 40; i++) {
+            double temp = 300.0 - Math.abs(latitude) * 0.6 + i * 0.5;
+            list.add(String.format(Locale.ROOT, """
+                    {"dt":%d,"main":{"temp":%.2f,"feels_like":%.2f},\
+                    "weather":[{"id":800,"main":"Clear","description":"clear sky"}],\
+                    "wind":{"speed":3.0},"visibility":10000,"pop":0,"sys":{"pod":"d"}}""",
+                    start + i * 10_800L, temp, temp - 1.5));
+        }
+        return list.toString();
+    }
+
+    /**
+     * Stations every 0.05 degrees north of the requested location.
+     */
+    private static String syntheticFind(URI uri) {
+        Map<String, String> query = query(uri);
+        double latitude = Double.parseDouble(query.getOrDefault("lat", "0"));
+        double longitude = Double.parseDouble(query.getOrDefault("lon", "0"));
+        int count = Integer.parseInt(query.getOrDefault("cnt", "10"));
+        StringJoiner list = new StringJoiner(",", "{\"list\":[", "]}");
+        for (int i = 0; i < count; i++) {
+            double stationLatitude = latitude + i * 0.05;
+            list.add(syntheticCity(stationLatitude, longitude, (long) Math.abs(stationLatitude * 1000 + longitude)));
+        }
+        return list.toString();
+    }
+
+    /**
+     * A 3x3 grid of stations spread over the requested box.
+     */
+    private static String syntheticBox(URI uri) {
+        String[] bbox = query(uri).getOrDefault("bbox", "0,0,0,0,0").split(",");
+        double west = Double.parseDouble(bbox[0]);
+        double south = Double.parseDouble(bbox[1]);
+        double east = Double.parseDouble(bbox[2]);
+        double north = Double.parseDouble(bbox[3]);
+        StringJoiner list = new StringJoiner(",", "{\"list\":[", "]}");
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 3; column++) {
+                double latitude = south + (north - south) * (row + 0.5) / 3;
+                double longitude = west + (east - west) * (column + 0.5) / 3;
+                list.add(syntheticCity(latitude, longitude, (long) Math.abs(latitude * 1000 + longitude)));
+            }
+        }
+        return list.toString();
+    }
+
+    private static String syntheticCity(double latitude, double longitude, long cityId) {
+        double temp = 300.0 - Math.abs(latitude) * 0.6;
+        return String.format(Locale.ROOT, """
+                {"coord":{"lon":%.4f,"lat":%.4f},\
+                "weather":[{"id":800,"main":"Clear","description":"clear sky","icon":"01d"}],\
+                "main":{"temp":%.2f,"feels_like":%.2f,"pressure":1013,"humidity":60},\
+                "visibility":10000,"wind":{"speed":%.1f,"deg":180},\
+                "dt":1675744800,"sys":{"sunrise":1675751262,"sunset":1675787560},\
+                "timezone":0,"id":%d,"name":"Synthetic %.2f,%.2f","cod":200}""",
+                longitude, latitude, temp, temp - 1.5, Math.abs(longitude) % 10, cityId, latitude, longitude);
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
@@ -1,5 +1,9 @@
 package com.github.kfedor.weather.sdk.http;
 
+import com.github.kfedor.weather.sdk.exception.NotFoundException;
+import com.github.kfedor.weather.sdk.exception.ThrottledException;
+import com.github.kfedor.weather.sdk.exception.UnauthorizedException;
+import com.github.kfedor.weather.sdk.exception.UpstreamException;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
 import java.io.IOException;
 import java.net.URI;
@@ -18,16 +22,40 @@ import java.net.http.HttpResponse;
  * leaving higher-level concerns (like retries, caching, or parsing)
  * to other SDK components.</p>
  *
+ * <p>Responses are requested with {@code Accept-Encoding: gzip, deflate}
+ * and transparently decompressed by {@link ContentDecoder}.</p>
+ *
+ * <p>HTTP 429 responses are tracked in a {@link ThrottleState}: while the
+ * provider-imposed throttling window is open, calls fail fast with a
+ * {@link com.github.kfedor.weather.sdk.exception.ThrottledException}
+ * instead of reaching the network.</p>
+ *
  * <p>Designed for internal use within the SDK’s {@code http} package.</p>
  *
  * @see java.net.http.HttpClient
+ * @see Transport
  */
-public class RequestExecutor {
+public class RequestExecutor implements Transport {
 
     private final HttpClient client;
+    private final ThrottleState throttle;
 
     public RequestExecutor(HttpClient client) {
+        this(client, new ThrottleState());
+    }
+
+    public RequestExecutor(HttpClient client, ThrottleState throttle) {
         this.client = client;
+        this.throttle = throttle;
+    }
+
+    /**
+     * Returns the throttling state of the API key served by this executor.
+     *
+     * @return the associated {@link ThrottleState}
+     */
+    public ThrottleState getThrottle() {
+        return throttle;
     }
 
     /**
@@ -37,28 +65,44 @@ public class RequestExecutor {
      * {@link java.net.http.HttpClient}. If the response status code is not 2xx,
      * a {@link com.github.kfedor.weather.sdk.exception.WeatherSdkException} is thrown.</p>
      *
+     * <p>If the key is currently throttled, no request is sent and a
+     * {@link com.github.kfedor.weather.sdk.exception.ThrottledException} is thrown right away.</p>
+     *
      * @param uri the target URI for the GET request
      * @return the raw response body as a string
      * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if the request fails or a non-successful status code is returned
      */
+    @Override
     public String get(URI uri) throws IOException, InterruptedException {
+        long remaining = throttle.remainingMillis();
+        if (remaining > 0) {
+            throttle.onRejected();
+            throw new ThrottledException("Throttled by provider, retry in " + remaining + " ms", remaining);
+        }
         HttpRequest httpRequest = HttpRequest.newBuilder()
                 .uri(uri)
                 .header("Accept", "application/json")
+                .header("Accept-Encoding", ContentDecoder.ACCEPT_ENCODING)
                 .GET()
                 .build();
-        HttpResponse<String> httpResponse = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<byte[]> httpResponse = client.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
         int code = httpResponse.statusCode();
 
         if (code >= 200 && code < 300) {
-            return httpResponse.body();
+            throttle.onSuccess();
+            return ContentDecoder.decode(httpResponse.body(),
+                    httpResponse.headers().firstValue("Content-Encoding").orElse(null));
+        }
+        if (code == 429) {
+            long waitMillis = throttle.onThrottled(httpResponse.headers().firstValue("Retry-After").orElse(null));
+            throw new ThrottledException("Too many requests (HTTP 429), retry in " + waitMillis + " ms", waitMillis);
         }
         if (code == 401 || code == 403) {
-            throw new WeatherSdkException("Unauthorized: bad API key (HTTP " + code + ")");
+            throw UnauthorizedException.forStatus(code);
         }
         if (code == 404) {
-            throw new WeatherSdkException("Not found (HTTP 404)");
+            throw NotFoundException.HTTP_404;
         }
-        throw new WeatherSdkException("HTTP error " + code + " from provider");
+        throw new UpstreamException(code);
     }
 }
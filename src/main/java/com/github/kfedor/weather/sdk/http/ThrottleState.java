@@ -0,0 +1,122 @@
+package com.github.kfedor.weather.sdk.http;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks provider-side throttling (HTTP 429) for a single API key.
+ *
+ * <p>When the provider rejects a request with {@code 429 Too Many Requests},
+ * the key enters a throttling window whose length is taken from the
+ * {@code Retry-After} header. If the header is missing or unreadable,
+ * an exponential backoff is applied instead, doubling with each consecutive
+ * 429 up to {@link #MAX_BACKOFF_MILLIS}. A successful response resets the backoff.
+ * Windows requested by the server are capped at {@link #MAX_RETRY_AFTER_MILLIS}.</p>
+ *
+ * <p>While the window is open, {@link RequestExecutor} rejects outgoing calls
+ * locally instead of sending requests the provider would refuse anyway.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public class ThrottleState {
+
+    static final long DEFAULT_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(1);
+    static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    static final long MAX_RETRY_AFTER_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final AtomicLong throttledUntil = new AtomicLong();
+    private final AtomicLong consecutive429 = new AtomicLong();
+    private final AtomicLong throttledResponses = new AtomicLong();
+    private final AtomicLong rejectedRequests = new AtomicLong();
+
+    /**
+     * Point-in-time view of the throttling state, suitable for metrics export.
+     *
+     * @param throttled          whether the key is currently inside a throttling window
+     * @param retryAfterMillis   remaining length of the window, {@code 0} if not throttled
+     * @param throttledResponses total number of HTTP 429 responses received
+     * @param rejectedRequests   total number of calls rejected locally without hitting the network
+     */
+    public record Status(boolean throttled, long retryAfterMillis, long throttledResponses, long rejectedRequests) {
+    }
+
+    /**
+     * Returns the remaining time of the current throttling window.
+     *
+     * @return milliseconds until the key may be used again, or {@code 0} if it is usable now
+     */
+    public long remainingMillis() {
+        return Math.max(0, throttledUntil.get() - System.currentTimeMillis());
+    }
+
+    /**
+     * Records a call that was rejected locally because the key is throttled.
+     */
+    void onRejected() {
+        rejectedRequests.incrementAndGet();
+    }
+
+    /**
+     * Records a successful response and resets the backoff sequence.
+     */
+    void onSuccess() {
+        consecutive429.set(0);
+    }
+
+    /**
+     * Records an HTTP 429 response and opens (or extends) the throttling window.
+     *
+     * @param retryAfterHeader value of the {@code Retry-After} header, may be {@code null}
+     * @return length of the throttling window in milliseconds
+     */
+    long onThrottled(String retryAfterHeader) {
+        throttledResponses.incrementAndGet();
+        long attempt = consecutive429.incrementAndGet();
+        long waitMillis = parseRetryAfter(retryAfterHeader);
+        if (waitMillis < 0) {
+            waitMillis = Math.min(MAX_BACKOFF_MILLIS, DEFAULT_BACKOFF_MILLIS << Math.min(attempt - 1, 16));
+        } else {
+            waitMillis = Math.min(MAX_RETRY_AFTER_MILLIS, waitMillis);
+        }
+        long now = System.currentTimeMillis();
+        long until = waitMillis > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + waitMillis;
+        throttledUntil.accumulateAndGet(until, Math::max);
+        return waitMillis;
+    }
+
+    /**
+     * Returns a snapshot of the current state and counters.
+     */
+    public Status status() {
+        long remaining = remainingMillis();
+        return new Status(remaining > 0, remaining, throttledResponses.get(), rejectedRequests.get());
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either as delay-seconds
+     * or as an HTTP-date (RFC 1123).
+     *
+     * @return the delay in milliseconds, or {@code -1} if the value is absent or invalid
+     */
+    static long parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(trimmed)));
+        } catch (NumberFormatException ignored) {
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(at.getZone()), at);
+            return delay.compareTo(Duration.ofMillis(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : Math.max(0, delay.toMillis());
+        } catch (DateTimeParseException ignored) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.kfedor.weather.sdk.http;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Transport abstraction used by the SDK clients to fetch provider responses.
+ *
+ * <p>The default implementation is {@link RequestExecutor}, which performs real
+ * HTTP calls. Alternative implementations can redirect, record or fully simulate
+ * traffic — e.g. {@link InMemoryTransport} serves generated JSON without any
+ * network access, which is useful for tests, load tests and profiling.</p>
+ *
+ * <p>Implementations must be thread-safe.</p>
+ *
+ * @see RequestExecutor
+ * @see InMemoryTransport
+ */
+public interface Transport {
+
+    /**
+     * Performs a GET request and returns the response body.
+     *
+     * @param uri the target URI
+     * @return the response body as a string
+     * @throws IOException          if an I/O error occurs
+     * @throws InterruptedException if the calling thread is interrupted
+     * @throws com.github.kfedor.weather.sdk.exception.WeatherSdkException if the provider returns an error
+     */
+    String get(URI uri) throws IOException, InterruptedException;
+}
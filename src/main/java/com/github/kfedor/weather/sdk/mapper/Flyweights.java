@@ -0,0 +1,51 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+
+/**
+ * Canonical instances of low-cardinality response values.
+ *
+ * <p>OpenWeather reports only a few hundred distinct weather conditions, and many
+ * cached locations share a city name. Without canonicalization every cached
+ * {@link WeatherResponse} would hold its own {@link WeatherResponse.Weather} and
+ * its own copies of the same strings. The decoding and mapping paths route these
+ * values through bounded {@link InternPool}s, so all responses share one
+ * instance per distinct condition and per distinct city name.</p>
+ *
+ * <p>Both pools are bounded ({@link #MAX_CONDITIONS}, {@link #MAX_CITY_NAMES});
+ * past the bound new values are simply not shared.</p>
+ *
+ * <p>Thread-safe. Intended for internal SDK use.</p>
+ */
+public final class Flyweights {
+
+    static final int MAX_CONDITIONS = 4_096;
+    static final int MAX_CITY_NAMES = 65_536;
+
+    private static final InternPool<WeatherResponse.Weather> CONDITIONS = new InternPool<>(MAX_CONDITIONS);
+    private static final InternPool<String> CITY_NAMES = new InternPool<>(MAX_CITY_NAMES);
+
+    private Flyweights() {
+    }
+
+    /**
+     * Returns the canonical condition for the given group and description.
+     *
+     * @param main        condition group, e.g. {@code Clouds}
+     * @param description condition within the group, e.g. {@code broken clouds}
+     * @return a shared {@link WeatherResponse.Weather} instance
+     */
+    public static WeatherResponse.Weather weather(String main, String description) {
+        return CONDITIONS.intern(new WeatherResponse.Weather(main, description));
+    }
+
+    /**
+     * Returns the canonical instance of a city name.
+     *
+     * @param name city name, may be {@code null}
+     * @return a shared string equal to {@code name}
+     */
+    public static String cityName(String name) {
+        return CITY_NAMES.intern(name);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, concurrent pool of canonical instances (flyweights).
+ *
+ * <p>{@link #intern(Object)} returns the pooled instance equal to the argument,
+ * adding the argument as the canonical instance if none exists yet. Once the pool
+ * holds {@code maxSize} instances it stops growing and returns unknown values as is,
+ * so a stream of unique values can never exhaust the heap; already pooled values
+ * keep being shared.</p>
+ *
+ * <p>Pooled types must be immutable and implement {@code equals}/{@code hashCode}.</p>
+ *
+ * <p>Thread-safe.</p>
+ *
+ * @param <T> type of pooled values
+ */
+final class InternPool<T> {
+
+    private final ConcurrentHashMap<T, T> pool = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    InternPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the canonical instance equal to {@code value}.
+     *
+     * @param value value to canonicalize, may be {@code null}
+     * @return the pooled instance, or {@code value} itself if it is {@code null},
+     * becomes the canonical instance, or the pool is full
+     */
+    T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        T pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (pool.size() >= maxSize) {
+            return value;
+        }
+        pooled = pool.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+
+    /**
+     * Returns the number of pooled instances.
+     */
+    int size() {
+        return pool.size();
+    }
+}
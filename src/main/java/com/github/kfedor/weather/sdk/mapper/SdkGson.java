@@ -0,0 +1,517 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import com.github.kfedor.weather.sdk.model.GeocodingItem;
+import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.Place;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.ReflectionAccessFilter;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared, immutable {@link Gson} instance used by every SDK component.
+ *
+ * <p>All SDK models are bound through hand-written {@link TypeAdapter}s instead of
+ * Gson's reflective field binding, so parsing does no reflection at runtime,
+ * the first call after startup does not pay for adapter discovery, and the SDK
+ * runs in a native image without reflection configuration. Reflection is
+ * blocked altogether: asking this instance to bind a type without an adapter
+ * fails instead of silently falling back to reflection.</p>
+ *
+ * <p>Adapters are registered for {@link OpenWeatherResponse} and its nested
+ * classes, {@link GeocodingItem}, {@link Place} and {@link WeatherResponse} with its nested
+ * classes. Arrays of these types are handled by Gson on top of the same adapters.</p>
+ *
+ * <p>{@code Gson} is thread-safe, so the instance is shared freely.</p>
+ */
+public final class SdkGson {
+
+    private static final Gson GSON = new GsonBuilder()
+            .addReflectionAccessFilter(type -> ReflectionAccessFilter.FilterResult.BLOCK_ALL)
+            .registerTypeAdapter(OpenWeatherResponse.class, new OpenWeatherResponseAdapter().nullSafe())
+            .registerTypeAdapter(OpenWeatherResponse.Weather.class, new RawWeatherAdapter().nullSafe())
+            .registerTypeAdapter(OpenWeatherResponse.Main.class, new RawMainAdapter().nullSafe())
+            .registerTypeAdapter(OpenWeatherResponse.Wind.class, new RawWindAdapter().nullSafe())
+            .registerTypeAdapter(OpenWeatherResponse.Sys.class, new RawSysAdapter().nullSafe())
+            .registerTypeAdapter(GeocodingItem.class, new GeocodingItemAdapter().nullSafe())
+            .registerTypeAdapter(Place.class, new PlaceAdapter().nullSafe())
+            .registerTypeAdapter(WeatherResponse.class, new WeatherResponseAdapter().nullSafe())
+            .registerTypeAdapter(WeatherResponse.Weather.class, new WeatherAdapter().nullSafe())
+            .registerTypeAdapter(WeatherResponse.Temperature.class, new TemperatureAdapter().nullSafe())
+            .registerTypeAdapter(WeatherResponse.Wind.class, new WindAdapter().nullSafe())
+            .registerTypeAdapter(WeatherResponse.Sys.class, new SysAdapter().nullSafe())
+            .create();
+
+    private SdkGson() {
+    }
+
+    /**
+     * Returns the shared Gson instance.
+     */
+    public static Gson gson() {
+        return GSON;
+    }
+
+    // ---- provider model: OpenWeatherResponse ----
+
+    private static final class OpenWeatherResponseAdapter extends TypeAdapter<OpenWeatherResponse> {
+        private final RawWeatherAdapter weather = new RawWeatherAdapter();
+        private final RawMainAdapter main = new RawMainAdapter();
+        private final RawWindAdapter wind = new RawWindAdapter();
+        private final RawSysAdapter sys = new RawSysAdapter();
+
+        @Override
+        public OpenWeatherResponse read(JsonReader in) throws IOException {
+            OpenWeatherResponse value = new OpenWeatherResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "weather" -> value.setWeather(readWeatherArray(in));
+                    case "main" -> value.setMain(main.read(in));
+                    case "visibility" -> value.setVisibility(nextInt(in));
+                    case "wind" -> value.setWind(wind.read(in));
+                    case "dt" -> value.setDt(nextLong(in));
+                    case "sys" -> value.setSys(sys.read(in));
+                    case "timezone" -> value.setTimezone(nextInt(in));
+                    case "name" -> value.setName(in.nextString());
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+
+        private OpenWeatherResponse.Weather[] readWeatherArray(JsonReader in) throws IOException {
+            List<OpenWeatherResponse.Weather> items = new ArrayList<>(1);
+            in.beginArray();
+            while (in.hasNext()) {
+                items.add(skipNull(in) ? null : weather.read(in));
+            }
+            in.endArray();
+            return items.toArray(new OpenWeatherResponse.Weather[0]);
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenWeatherResponse value) throws IOException {
+            out.beginObject();
+            if (value.getWeather() != null) {
+                out.name("weather").beginArray();
+                for (OpenWeatherResponse.Weather item : value.getWeather()) {
+                    if (item == null) {
+                        out.nullValue();
+                    } else {
+                        weather.write(out, item);
+                    }
+                }
+                out.endArray();
+            }
+            if (value.getMain() != null) {
+                main.write(out.name("main"), value.getMain());
+            }
+            out.name("visibility").value(value.getVisibility());
+            if (value.getWind() != null) {
+                wind.write(out.name("wind"), value.getWind());
+            }
+            out.name("dt").value(value.getDt());
+            if (value.getSys() != null) {
+                sys.write(out.name("sys"), value.getSys());
+            }
+            out.name("timezone").value(value.getTimezone());
+            writeString(out, "name", value.getName());
+            out.endObject();
+        }
+    }
+
+    private static final class RawWeatherAdapter extends TypeAdapter<OpenWeatherResponse.Weather> {
+        @Override
+        public OpenWeatherResponse.Weather read(JsonReader in) throws IOException {
+            OpenWeatherResponse.Weather value = new OpenWeatherResponse.Weather();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "main" -> value.setMain(in.nextString());
+                    case "description" -> value.setDescription(in.nextString());
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenWeatherResponse.Weather value) throws IOException {
+            out.beginObject();
+            writeString(out, "main", value.getMain());
+            writeString(out, "description", value.getDescription());
+            out.endObject();
+        }
+    }
+
+    private static final class RawMainAdapter extends TypeAdapter<OpenWeatherResponse.Main> {
+        @Override
+        public OpenWeatherResponse.Main read(JsonReader in) throws IOException {
+            OpenWeatherResponse.Main value = new OpenWeatherResponse.Main();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "temp" -> value.setTemp(nextDouble(in));
+                    case "feels_like" -> value.setFeels_like(nextDouble(in));
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenWeatherResponse.Main value) throws IOException {
+            out.beginObject();
+            out.name("temp").value(value.getTemp());
+            out.name("feels_like").value(value.getFeels_like());
+            out.endObject();
+        }
+    }
+
+    private static final class RawWindAdapter extends TypeAdapter<OpenWeatherResponse.Wind> {
+        @Override
+        public OpenWeatherResponse.Wind read(JsonReader in) throws IOException {
+            OpenWeatherResponse.Wind value = new OpenWeatherResponse.Wind();
+            in.beginObject();
+            while (in.hasNext()) {
+                if (in.nextName().equals("speed")) {
+                    value.setSpeed(nextDouble(in));
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenWeatherResponse.Wind value) throws IOException {
+            out.beginObject();
+            out.name("speed").value(value.getSpeed());
+            out.endObject();
+        }
+    }
+
+    private static final class RawSysAdapter extends TypeAdapter<OpenWeatherResponse.Sys> {
+        @Override
+        public OpenWeatherResponse.Sys read(JsonReader in) throws IOException {
+            OpenWeatherResponse.Sys value = new OpenWeatherResponse.Sys();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "sunrise" -> value.setSunrise(nextLong(in));
+                    case "sunset" -> value.setSunset(nextLong(in));
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenWeatherResponse.Sys value) throws IOException {
+            out.beginObject();
+            out.name("sunrise").value(value.getSunrise());
+            out.name("sunset").value(value.getSunset());
+            out.endObject();
+        }
+    }
+
+    // ---- provider model: GeocodingItem ----
+
+    private static final class GeocodingItemAdapter extends TypeAdapter<GeocodingItem> {
+        @Override
+        public GeocodingItem read(JsonReader in) throws IOException {
+            double latitude = 0;
+            double longitude = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "lat" -> latitude = nextDouble(in);
+                    case "lon" -> longitude = nextDouble(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new GeocodingItem(latitude, longitude);
+        }
+
+        @Override
+        public void write(JsonWriter out, GeocodingItem value) throws IOException {
+            out.beginObject();
+            out.name("lat").value(value.latitude());
+            out.name("lon").value(value.longitude());
+            out.endObject();
+        }
+    }
+
+    private static final class PlaceAdapter extends TypeAdapter<Place> {
+        @Override
+        public Place read(JsonReader in) throws IOException {
+            String name = null;
+            String state = null;
+            String country = null;
+            double latitude = 0;
+            double longitude = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                String field = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (field) {
+                    case "name" -> name = in.nextString();
+                    case "state" -> state = in.nextString();
+                    case "country" -> country = in.nextString();
+                    case "lat" -> latitude = nextDouble(in);
+                    case "lon" -> longitude = nextDouble(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Place(name, state, country, latitude, longitude);
+        }
+
+        @Override
+        public void write(JsonWriter out, Place value) throws IOException {
+            out.beginObject();
+            writeString(out, "name", value.name());
+            writeString(out, "state", value.state());
+            writeString(out, "country", value.country());
+            out.name("lat").value(value.latitude());
+            out.name("lon").value(value.longitude());
+            out.endObject();
+        }
+    }
+
+    // ---- SDK model: WeatherResponse ----
+
+    private static final class WeatherResponseAdapter extends TypeAdapter<WeatherResponse> {
+        private final WeatherAdapter weather = new WeatherAdapter();
+        private final TemperatureAdapter temperature = new TemperatureAdapter();
+        private final WindAdapter wind = new WindAdapter();
+        private final SysAdapter sys = new SysAdapter();
+
+        @Override
+        public WeatherResponse read(JsonReader in) throws IOException {
+            WeatherResponse.WeatherResponseBuilder value = WeatherResponse.builder();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "weather" -> value.weather(weather.read(in));
+                    case "temperature" -> value.temperature(temperature.read(in));
+                    case "visibility" -> value.visibility(nextInt(in));
+                    case "wind" -> value.wind(wind.read(in));
+                    case "datetime" -> value.datetime(nextLong(in));
+                    case "sys" -> value.sys(sys.read(in));
+                    case "timezone" -> value.timezone(nextInt(in));
+                    case "name" -> value.name(Flyweights.cityName(in.nextString()));
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value.build();
+        }
+
+        @Override
+        public void write(JsonWriter out, WeatherResponse value) throws IOException {
+            out.beginObject();
+            if (value.weather() != null) {
+                weather.write(out.name("weather"), value.weather());
+            }
+            if (value.temperature() != null) {
+                temperature.write(out.name("temperature"), value.temperature());
+            }
+            out.name("visibility").value(value.visibility());
+            if (value.wind() != null) {
+                wind.write(out.name("wind"), value.wind());
+            }
+            out.name("datetime").value(value.datetime());
+            if (value.sys() != null) {
+                sys.write(out.name("sys"), value.sys());
+            }
+            out.name("timezone").value(value.timezone());
+            writeString(out, "name", value.name());
+            out.endObject();
+        }
+    }
+
+    private static final class WeatherAdapter extends TypeAdapter<WeatherResponse.Weather> {
+        @Override
+        public WeatherResponse.Weather read(JsonReader in) throws IOException {
+            String main = null;
+            String description = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "main" -> main = in.nextString();
+                    case "description" -> description = in.nextString();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return Flyweights.weather(main, description);
+        }
+
+        @Override
+        public void write(JsonWriter out, WeatherResponse.Weather value) throws IOException {
+            out.beginObject();
+            writeString(out, "main", value.main());
+            writeString(out, "description", value.description());
+            out.endObject();
+        }
+    }
+
+    private static final class TemperatureAdapter extends TypeAdapter<WeatherResponse.Temperature> {
+        @Override
+        public WeatherResponse.Temperature read(JsonReader in) throws IOException {
+            double temp = 0;
+            double feelsLike = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "temp" -> temp = nextDouble(in);
+                    case "feels_like" -> feelsLike = nextDouble(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new WeatherResponse.Temperature(temp, feelsLike);
+        }
+
+        @Override
+        public void write(JsonWriter out, WeatherResponse.Temperature value) throws IOException {
+            out.beginObject();
+            out.name("temp").value(value.temp());
+            out.name("feels_like").value(value.feelsLike());
+            out.endObject();
+        }
+    }
+
+    private static final class WindAdapter extends TypeAdapter<WeatherResponse.Wind> {
+        @Override
+        public WeatherResponse.Wind read(JsonReader in) throws IOException {
+            double speed = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                if (in.nextName().equals("speed")) {
+                    speed = nextDouble(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return new WeatherResponse.Wind(speed);
+        }
+
+        @Override
+        public void write(JsonWriter out, WeatherResponse.Wind value) throws IOException {
+            out.beginObject();
+            out.name("speed").value(value.speed());
+            out.endObject();
+        }
+    }
+
+    private static final class SysAdapter extends TypeAdapter<WeatherResponse.Sys> {
+        @Override
+        public WeatherResponse.Sys read(JsonReader in) throws IOException {
+            long sunrise = 0;
+            long sunset = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "sunrise" -> sunrise = nextLong(in);
+                    case "sunset" -> sunset = nextLong(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new WeatherResponse.Sys(sunrise, sunset);
+        }
+
+        @Override
+        public void write(JsonWriter out, WeatherResponse.Sys value) throws IOException {
+            out.beginObject();
+            out.name("sunrise").value(value.sunrise());
+            out.name("sunset").value(value.sunset());
+            out.endObject();
+        }
+    }
+
+    // ---- helpers ----
+
+    private static boolean skipNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    private static double nextDouble(JsonReader in) throws IOException {
+        if (skipNull(in)) {
+            return 0;
+        }
+        try {
+            return in.nextDouble();
+        } catch (NumberFormatException ex) {
+            throw new JsonSyntaxException(ex);
+        }
+    }
+
+    private static long nextLong(JsonReader in) throws IOException {
+        if (skipNull(in)) {
+            return 0;
+        }
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException ex) {
+            throw new JsonSyntaxException(ex);
+        }
+    }
+
+    private static int nextInt(JsonReader in) throws IOException {
+        if (skipNull(in)) {
+            return 0;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException ex) {
+            throw new JsonSyntaxException(ex);
+        }
+    }
+
+    private static void writeString(JsonWriter out, String name, String value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value);
+        }
+    }
+}
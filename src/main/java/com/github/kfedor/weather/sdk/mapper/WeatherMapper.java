@@ -1,5 +1,6 @@
 package com.github.kfedor.weather.sdk.mapper;
 
+import com.github.kfedor.weather.sdk.exception.MalformedResponseException;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
 import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
@@ -32,7 +33,8 @@ public final class WeatherMapper {
      *
      * <p>Extracts essential information such as temperature, weather description,
      * wind, visibility, timestamps, and city name. Any missing or unexpected
-     * fields in the raw data are handled gracefully.</p>
+     * fields in the raw data are handled gracefully. Weather conditions and city
+     * names are canonicalized through {@link Flyweights}.</p>
      *
      * @param openWeatherResponse the raw API response to convert
      * @return a simplified, provider-independent {@code WeatherResponse}
@@ -40,37 +42,28 @@ public final class WeatherMapper {
      */
     public static WeatherResponse toSdk(OpenWeatherResponse openWeatherResponse) {
         if (openWeatherResponse == null) {
-            throw new WeatherSdkException("Empty provider response");
+            throw new MalformedResponseException("Empty provider response");
         }
-        WeatherResponse responseToClient = new WeatherResponse();
+        WeatherResponse.WeatherResponseBuilder responseToClient = WeatherResponse.builder();
 
         if (openWeatherResponse.getWeather() != null && openWeatherResponse.getWeather().length > 0) {
-            Weather weather = new Weather();
-            weather.setMain(openWeatherResponse.getWeather()[0].getMain());
-            weather.setDescription(openWeatherResponse.getWeather()[0].getDescription());
-            responseToClient.setWeather(weather);
+            OpenWeatherResponse.Weather first = openWeatherResponse.getWeather()[0];
+            responseToClient.weather(Flyweights.weather(first.getMain(), first.getDescription()));
         }
         if (openWeatherResponse.getMain() != null) {
-            Temperature temperature = new Temperature();
-            temperature.setTemp(openWeatherResponse.getMain().getTemp());
-            temperature.setFeels_like(openWeatherResponse.getMain().getFeels_like());
-            responseToClient.setTemperature(temperature);
+            responseToClient.temperature(new Temperature(
+                    openWeatherResponse.getMain().getTemp(), openWeatherResponse.getMain().getFeels_like()));
         }
-        responseToClient.setVisibility(openWeatherResponse.getVisibility());
+        responseToClient.visibility(openWeatherResponse.getVisibility());
         if (openWeatherResponse.getWind() != null) {
-            Wind wind = new Wind();
-            wind.setSpeed(openWeatherResponse.getWind().getSpeed());
-            responseToClient.setWind(wind);
+            responseToClient.wind(new Wind(openWeatherResponse.getWind().getSpeed()));
         }
-        responseToClient.setDatetime(openWeatherResponse.getDt());
+        responseToClient.datetime(openWeatherResponse.getDt());
         if (openWeatherResponse.getSys() != null) {
-            Sys sys = new Sys();
-            sys.setSunrise(openWeatherResponse.getSys().getSunrise());
-            sys.setSunset(openWeatherResponse.getSys().getSunset());
-            responseToClient.setSys(sys);
+            responseToClient.sys(new Sys(openWeatherResponse.getSys().getSunrise(), openWeatherResponse.getSys().getSunset()));
         }
-        responseToClient.setTimezone(openWeatherResponse.getTimezone());
-        responseToClient.setName(openWeatherResponse.getName());
-        return responseToClient;
+        responseToClient.timezone(openWeatherResponse.getTimezone());
+        responseToClient.name(Flyweights.cityName(openWeatherResponse.getName()));
+        return responseToClient.build();
     }
 }
\ No newline at end of file
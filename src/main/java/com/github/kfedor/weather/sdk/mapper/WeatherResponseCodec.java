@@ -0,0 +1,398 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import com.github.kfedor.weather.sdk.exception.MalformedResponseException;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, versioned binary form of {@link WeatherResponse}.
+ *
+ * <p>Intended for storing and moving large numbers of responses — disk tiers,
+ * sidecars, snapshots — where JSON is too bulky. A typical response takes
+ * about 40 bytes instead of about 200 bytes of JSON.</p>
+ *
+ * <p>Layout of format version {@value #VERSION}:</p>
+ * <pre>
+ * u8      version
+ * u8      flags: presence of 1 weather, 2 temperature, 4 wind, 8 sys, 16 name;
+ *         32 decimals packed as hundredths; other bits must be clear
+ * [str    weather.main, str weather.description]
+ * [dec    temperature.temp, dec temperature.feelsLike]
+ * varint  visibility (zigzag)
+ * [dec    wind.speed]
+ * varint  datetime (zigzag)
+ * [varint sys.sunrise - datetime, varint sys.sunset - datetime (zigzag)]
+ * varint  timezone (zigzag)
+ * [str    name]
+ * </pre>
+ * <p>A {@code dec} is a zigzag varint of the value in hundredths when flag 32 is set,
+ * which is the case whenever every decimal of the response has at most two fraction
+ * digits (as reported by the provider); otherwise it is an IEEE 754 {@code f64}.
+ * A {@code str} is a varint code: {@code 0} is followed by a zigzag varint byte length
+ * and the UTF-8 bytes, a length of {@code -1} standing for {@code null}; {@code n > 0}
+ * refers to entry {@code n - 1} of a built-in dictionary of OpenWeather condition names.
+ * The dictionary belongs to the format version and is never reordered; changing it
+ * requires a new version.</p>
+ *
+ * <p>{@link #encode} and {@link #decode} work on caller-supplied buffers at their
+ * current position and allocate no intermediate buffers; decoding only creates the
+ * resulting objects, with dictionary strings, conditions and city names shared
+ * through {@link Flyweights}.</p>
+ *
+ * <p>This class is stateless and thread-safe.</p>
+ */
+public final class WeatherResponseCodec {
+
+    /**
+     * Current format version, written as the first byte of every encoded response.
+     */
+    public static final int VERSION = 1;
+
+    private static final int HAS_WEATHER = 1;
+    private static final int HAS_TEMPERATURE = 2;
+    private static final int HAS_WIND = 4;
+    private static final int HAS_SYS = 8;
+    private static final int HAS_NAME = 16;
+    private static final int PACKED_DECIMALS = 32;
+    private static final int KNOWN_FLAGS = PACKED_DECIMALS * 2 - 1;
+    private static final long MAX_PACKED = 1L << 50;
+
+    private static final List<String> DICTIONARY = List.of(
+            "Thunderstorm", "Drizzle", "Rain", "Snow", "Mist", "Smoke", "Haze", "Dust", "Fog",
+            "Sand", "Ash", "Squall", "Tornado", "Clear", "Clouds",
+            "thunderstorm with light rain", "thunderstorm with rain", "thunderstorm with heavy rain",
+            "light thunderstorm", "thunderstorm", "heavy thunderstorm", "ragged thunderstorm",
+            "thunderstorm with light drizzle", "thunderstorm with drizzle", "thunderstorm with heavy drizzle",
+            "light intensity drizzle", "drizzle", "heavy intensity drizzle", "light intensity drizzle rain",
+            "drizzle rain", "heavy intensity drizzle rain", "shower rain and drizzle",
+            "heavy shower rain and drizzle", "shower drizzle",
+            "light rain", "moderate rain", "heavy intensity rain", "very heavy rain", "extreme rain",
+            "freezing rain", "light intensity shower rain", "shower rain", "heavy intensity shower rain",
+            "ragged shower rain",
+            "light snow", "snow", "heavy snow", "sleet", "light shower sleet", "shower sleet",
+            "light rain and snow", "rain and snow", "light shower snow", "shower snow", "heavy shower snow",
+            "mist", "smoke", "haze", "sand/dust whirls", "fog", "sand", "dust", "volcanic ash", "squalls",
+            "tornado", "clear sky", "few clouds", "scattered clouds", "broken clouds", "overcast clouds");
+
+    private static final Map<String, Integer> CODES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < DICTIONARY.size(); i++) {
+            CODES.putIfAbsent(DICTIONARY.get(i), i + 1);
+        }
+    }
+
+    private WeatherResponseCodec() {
+    }
+
+    /**
+     * Writes a response into the buffer at its current position.
+     *
+     * @param response response to encode
+     * @param out      target buffer; its position is advanced past the written bytes
+     * @throws BufferOverflowException if the buffer has less than {@link #encodedSize} bytes remaining
+     */
+    public static void encode(WeatherResponse response, ByteBuffer out) {
+        int flags = flags(response);
+        boolean packed = (flags & PACKED_DECIMALS) != 0;
+        out.put((byte) VERSION);
+        out.put((byte) flags);
+        if (response.weather() != null) {
+            writeString(out, response.weather().main());
+            writeString(out, response.weather().description());
+        }
+        if (response.temperature() != null) {
+            writeDecimal(out, response.temperature().temp(), packed);
+            writeDecimal(out, response.temperature().feelsLike(), packed);
+        }
+        writeVarLong(out, zigzag(response.visibility()));
+        if (response.wind() != null) {
+            writeDecimal(out, response.wind().speed(), packed);
+        }
+        writeVarLong(out, zigzag(response.datetime()));
+        if (response.sys() != null) {
+            writeVarLong(out, zigzag(response.sys().sunrise() - response.datetime()));
+            writeVarLong(out, zigzag(response.sys().sunset() - response.datetime()));
+        }
+        writeVarLong(out, zigzag(response.timezone()));
+        if (response.name() != null) {
+            writeString(out, response.name());
+        }
+    }
+
+    /**
+     * Reads a response from the buffer at its current position.
+     *
+     * @param in source buffer; its position is advanced past the read bytes
+     * @return the decoded response
+     * @throws WeatherSdkException if the data has an unsupported version, is truncated or corrupt
+     */
+    public static WeatherResponse decode(ByteBuffer in) {
+        try {
+            int version = in.get() & 0xFF;
+            if (version != VERSION) {
+                throw new MalformedResponseException("Unsupported binary weather format version " + version);
+            }
+            int flags = in.get() & 0xFF;
+            if ((flags & ~KNOWN_FLAGS) != 0) {
+                throw new MalformedResponseException("Unknown flags in binary weather data: " + flags);
+            }
+            boolean packed = (flags & PACKED_DECIMALS) != 0;
+            WeatherResponse.WeatherResponseBuilder response = WeatherResponse.builder();
+            if ((flags & HAS_WEATHER) != 0) {
+                response.weather(Flyweights.weather(readString(in), readString(in)));
+            }
+            if ((flags & HAS_TEMPERATURE) != 0) {
+                response.temperature(new WeatherResponse.Temperature(readDecimal(in, packed), readDecimal(in, packed)));
+            }
+            response.visibility((int) unzigzag(readVarLong(in)));
+            if ((flags & HAS_WIND) != 0) {
+                response.wind(new WeatherResponse.Wind(readDecimal(in, packed)));
+            }
+            long datetime = unzigzag(readVarLong(in));
+            response.datetime(datetime);
+            if ((flags & HAS_SYS) != 0) {
+                response.sys(new WeatherResponse.Sys(datetime + unzigzag(readVarLong(in)),
+                        datetime + unzigzag(readVarLong(in))));
+            }
+            response.timezone((int) unzigzag(readVarLong(in)));
+            if ((flags & HAS_NAME) != 0) {
+                response.name(Flyweights.cityName(readString(in)));
+            }
+            return response.build();
+        } catch (BufferUnderflowException ex) {
+            throw new MalformedResponseException("Truncated binary weather data", ex);
+        }
+    }
+
+    /**
+     * Returns the exact number of bytes {@link #encode} writes for the response.
+     *
+     * @param response response to measure
+     * @return encoded size in bytes
+     */
+    public static int encodedSize(WeatherResponse response) {
+        boolean packed = (flags(response) & PACKED_DECIMALS) != 0;
+        int size = 2;
+        if (response.weather() != null) {
+            size += stringSize(response.weather().main()) + stringSize(response.weather().description());
+        }
+        if (response.temperature() != null) {
+            size += decimalSize(response.temperature().temp(), packed);
+            size += decimalSize(response.temperature().feelsLike(), packed);
+        }
+        size += varLongSize(zigzag(response.visibility()));
+        if (response.wind() != null) {
+            size += decimalSize(response.wind().speed(), packed);
+        }
+        size += varLongSize(zigzag(response.datetime()));
+        if (response.sys() != null) {
+            size += varLongSize(zigzag(response.sys().sunrise() - response.datetime()));
+            size += varLongSize(zigzag(response.sys().sunset() - response.datetime()));
+        }
+        size += varLongSize(zigzag(response.timezone()));
+        if (response.name() != null) {
+            size += stringSize(response.name());
+        }
+        return size;
+    }
+
+    private static int flags(WeatherResponse response) {
+        int flags = 0;
+        if (response.weather() != null) {
+            flags |= HAS_WEATHER;
+        }
+        if (response.temperature() != null) {
+            flags |= HAS_TEMPERATURE;
+        }
+        if (response.wind() != null) {
+            flags |= HAS_WIND;
+        }
+        if (response.sys() != null) {
+            flags |= HAS_SYS;
+        }
+        if (response.name() != null) {
+            flags |= HAS_NAME;
+        }
+        boolean packable = (response.temperature() == null
+                            || (packable(response.temperature().temp()) && packable(response.temperature().feelsLike())))
+                           && (response.wind() == null || packable(response.wind().speed()));
+        if (packable) {
+            flags |= PACKED_DECIMALS;
+        }
+        return flags;
+    }
+
+    // ---- decimals ----
+
+    private static boolean packable(double value) {
+        double hundredths = value * 100;
+        return Math.abs(hundredths) < MAX_PACKED && Math.round(hundredths) / 100.0 == value;
+    }
+
+    private static void writeDecimal(ByteBuffer out, double value, boolean packed) {
+        if (packed) {
+            writeVarLong(out, zigzag(Math.round(value * 100)));
+        } else {
+            out.putDouble(value);
+        }
+    }
+
+    private static double readDecimal(ByteBuffer in, boolean packed) {
+        return packed ? unzigzag(readVarLong(in)) / 100.0 : in.getDouble();
+    }
+
+    private static int decimalSize(double value, boolean packed) {
+        return packed ? varLongSize(zigzag(Math.round(value * 100))) : Double.BYTES;
+    }
+
+    // ---- strings ----
+
+    /**
+     * Writes a dictionary code or an inline UTF-8 literal. A {@code null} string
+     * is written as a literal of length {@code -1}.
+     */
+    private static void writeString(ByteBuffer out, String text) {
+        if (text == null) {
+            writeVarLong(out, 0);
+            writeVarLong(out, zigzag(-1));
+            return;
+        }
+        Integer code = CODES.get(text);
+        if (code != null) {
+            writeVarLong(out, code);
+            return;
+        }
+        writeVarLong(out, 0);
+        writeVarLong(out, zigzag(utf8Length(text)));
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >>> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                       && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >>> 18)));
+                out.put((byte) (0x80 | ((codePoint >>> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >>> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                char encoded = Character.isSurrogate(c) ? '?' : c;
+                out.put((byte) (0xE0 | (encoded >>> 12)));
+                out.put((byte) (0x80 | ((encoded >>> 6) & 0x3F)));
+                out.put((byte) (0x80 | (encoded & 0x3F)));
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        long code = readVarLong(in);
+        if (code != 0) {
+            if (code < 0 || code > DICTIONARY.size()) {
+                throw new MalformedResponseException("Unknown dictionary code in binary weather data: " + code);
+            }
+            return DICTIONARY.get((int) code - 1);
+        }
+        long length = unzigzag(readVarLong(in));
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > in.remaining()) {
+            throw new MalformedResponseException("Invalid string length in binary weather data: " + length);
+        }
+        return readUtf8(in, (int) length);
+    }
+
+    private static String readUtf8(ByteBuffer in, int length) {
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private static int stringSize(String text) {
+        if (text == null) {
+            return 1 + varLongSize(zigzag(-1));
+        }
+        Integer code = CODES.get(text);
+        if (code != null) {
+            return varLongSize(code);
+        }
+        int length = utf8Length(text);
+        return 1 + varLongSize(zigzag(length)) + length;
+    }
+
+    private static int utf8Length(String text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                       && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    // ---- varints ----
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new MalformedResponseException("Malformed varint in binary weather data");
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
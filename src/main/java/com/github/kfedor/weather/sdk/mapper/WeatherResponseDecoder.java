@@ -0,0 +1,258 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import com.github.kfedor.weather.sdk.exception.MalformedResponseException;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.kfedor.weather.sdk.model.WeatherResponse.*;
+
+/**
+ * Single-pass streaming decoder from OpenWeather JSON to {@link WeatherResponse}.
+ *
+ * <p>Reads the provider payload token by token with Gson's {@link JsonReader}
+ * and fills the SDK model directly, skipping every field the SDK does not use
+ * without materializing it. This avoids the reflective binding into
+ * {@link com.github.kfedor.weather.sdk.model.OpenWeatherResponse} and the
+ * field-by-field copy done by {@link WeatherMapper#toSdk}.</p>
+ *
+ * <p>Weather conditions and city names are canonicalized through {@link Flyweights}.
+ * The produced {@code WeatherResponse} is equal to
+ * {@code WeatherMapper.toSdk(gson.fromJson(json, OpenWeatherResponse.class))}.</p>
+ *
+ * <p>This class is stateless and thread-safe.</p>
+ */
+public final class WeatherResponseDecoder {
+
+    private WeatherResponseDecoder() {
+    }
+
+    /**
+     * Decodes a current-weather payload.
+     *
+     * @param json raw JSON returned by the {@code /data/2.5/weather} endpoint
+     * @return the decoded SDK response
+     * @throws WeatherSdkException if the payload is empty or not valid JSON
+     */
+    public static WeatherResponse decode(String json) {
+        return decodeWithId(json).response();
+    }
+
+    /**
+     * Decodes a current-weather payload together with the provider city id.
+     *
+     * @param json raw JSON returned by the {@code /data/2.5/weather} endpoint
+     * @return the decoded SDK response and the provider city id
+     * @throws WeatherSdkException if the payload is empty or not valid JSON
+     */
+    public static Decoded decodeWithId(String json) {
+        if (json == null || json.isBlank()) {
+            throw new MalformedResponseException("Empty provider response");
+        }
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            if (reader.peek() == JsonToken.NULL) {
+                throw new MalformedResponseException("Empty provider response");
+            }
+            return readWithId(reader);
+        } catch (IOException | IllegalStateException | NumberFormatException ex) {
+            throw new MalformedResponseException("Malformed JSON from weather provider", ex);
+        }
+    }
+
+    /**
+     * Decodes a payload whose {@code list} array holds current-weather objects, as
+     * returned by the {@code /data/2.5/group}, {@code /data/2.5/find} and
+     * {@code /data/2.5/box/city} endpoints.
+     *
+     * @param json raw JSON returned by a multi-city endpoint
+     * @return the decoded cities in payload order
+     * @throws WeatherSdkException if the payload is empty or not valid JSON
+     */
+    public static List<Decoded> decodeList(String json) {
+        if (json == null || json.isBlank()) {
+            throw new MalformedResponseException("Empty provider response");
+        }
+        List<Decoded> cities = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("list") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        cities.add(readWithId(reader));
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IOException | IllegalStateException | NumberFormatException ex) {
+            throw new MalformedResponseException("Malformed JSON from weather provider", ex);
+        }
+        return cities;
+    }
+
+    /**
+     * Decoded current weather together with the provider's id and location of the city.
+     *
+     * @param response    the SDK response
+     * @param cityId      provider city id, or {@code 0} if the payload has none
+     * @param coordinates location of the city, or {@code null} if the payload has none
+     */
+    public record Decoded(WeatherResponse response, long cityId, Coordinates coordinates) {
+    }
+
+    /**
+     * Reads one current-weather object from the reader's current position.
+     *
+     * @param reader reader positioned at the start of the object
+     * @return the decoded SDK response
+     * @throws IOException if the JSON is malformed
+     */
+    public static WeatherResponse read(JsonReader reader) throws IOException {
+        return readWithId(reader).response();
+    }
+
+    private static Decoded readWithId(JsonReader reader) throws IOException {
+        WeatherResponse.WeatherResponseBuilder response = WeatherResponse.builder();
+        long cityId = 0;
+        Coordinates coordinates = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (field) {
+                case "weather" -> response.weather(readWeather(reader));
+                case "main" -> response.temperature(readTemperature(reader));
+                case "visibility" -> response.visibility(reader.nextInt());
+                case "wind" -> response.wind(readWind(reader));
+                case "dt" -> response.datetime(reader.nextLong());
+                case "sys" -> response.sys(readSys(reader));
+                case "timezone" -> response.timezone(reader.nextInt());
+                case "name" -> response.name(Flyweights.cityName(reader.nextString()));
+                case "id" -> cityId = reader.nextLong();
+                case "coord" -> coordinates = readCoordinates(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Decoded(response.build(), cityId, coordinates);
+    }
+
+    /**
+     * Reads {@code coord}; the box endpoint capitalizes its keys as {@code Lat}/{@code Lon}.
+     */
+    private static Coordinates readCoordinates(JsonReader reader) throws IOException {
+        double latitude = 0;
+        double longitude = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "lat", "Lat" -> latitude = nextDouble(reader);
+                case "lon", "Lon" -> longitude = nextDouble(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Coordinates(latitude, longitude);
+    }
+
+    private static Weather readWeather(JsonReader reader) throws IOException {
+        Weather weather = null;
+        reader.beginArray();
+        if (reader.hasNext()) {
+            String main = null;
+            String description = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String field = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+                switch (field) {
+                    case "main" -> main = reader.nextString();
+                    case "description" -> description = reader.nextString();
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+            weather = Flyweights.weather(main, description);
+        }
+        while (reader.hasNext()) {
+            reader.skipValue();
+        }
+        reader.endArray();
+        return weather;
+    }
+
+    private static Temperature readTemperature(JsonReader reader) throws IOException {
+        double temp = 0;
+        double feelsLike = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "temp" -> temp = nextDouble(reader);
+                case "feels_like" -> feelsLike = nextDouble(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Temperature(temp, feelsLike);
+    }
+
+    private static Wind readWind(JsonReader reader) throws IOException {
+        double speed = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("speed")) {
+                speed = nextDouble(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Wind(speed);
+    }
+
+    private static Sys readSys(JsonReader reader) throws IOException {
+        long sunrise = 0;
+        long sunset = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "sunrise" -> sunrise = nextLong(reader);
+                case "sunset" -> sunset = nextLong(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Sys(sunrise, sunset);
+    }
+
+    private static double nextDouble(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        return reader.nextDouble();
+    }
+
+    private static long nextLong(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return 0;
+        }
+        return reader.nextLong();
+    }
+}
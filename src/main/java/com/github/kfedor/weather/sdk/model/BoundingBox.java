@@ -0,0 +1,30 @@
+package com.github.kfedor.weather.sdk.model;
+
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+
+/**
+ * Rectangular map area for area queries.
+ *
+ * @param west  western longitude in degrees
+ * @param south southern latitude in degrees
+ * @param east  eastern longitude in degrees
+ * @param north northern latitude in degrees
+ */
+public record BoundingBox(double west, double south, double east, double north) {
+
+    public BoundingBox {
+        if (south > north || west > east) {
+            throw new WeatherSdkException(ErrorCode.INVALID_ARGUMENT,
+                    "Bounding box must have south <= north and west <= east");
+        }
+    }
+
+    /**
+     * Returns whether the location lies inside this box, edges included.
+     */
+    public boolean contains(Coordinates location) {
+        return location.latitude() >= south && location.latitude() <= north
+                && location.longitude() >= west && location.longitude() <= east;
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.kfedor.weather.sdk.model;
+
+/**
+ * Geographic location.
+ *
+ * @param latitude  latitude in degrees
+ * @param longitude longitude in degrees
+ */
+public record Coordinates(double latitude, double longitude) {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * Returns the great-circle distance to another location.
+     *
+     * @param other the other location
+     * @return distance in kilometers (haversine formula)
+     */
+    public double distanceKm(Coordinates other) {
+        double dLat = Math.toRadians(other.latitude - latitude);
+        double dLon = Math.toRadians(other.longitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.kfedor.weather.sdk.model;
+
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+
+/**
+ * Outcome of a single location within a batch lookup.
+ *
+ * <p>Exactly one of {@code response} and {@code error} is non-null, so one
+ * failing location never fails the whole batch.</p>
+ *
+ * @param response current weather if the lookup succeeded, otherwise {@code null}
+ * @param error    failure of the lookup, otherwise {@code null}
+ */
+public record LookupResult(WeatherResponse response, WeatherSdkException error) {
+
+    public static LookupResult success(WeatherResponse response) {
+        return new LookupResult(response, null);
+    }
+
+    public static LookupResult failure(WeatherSdkException error) {
+        return new LookupResult(null, error);
+    }
+
+    /**
+     * Returns whether the lookup succeeded.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Returns the response or rethrows the failure.
+     *
+     * @return current weather of the location
+     * @throws WeatherSdkException if the lookup failed
+     */
+    public WeatherResponse orElseThrow() {
+        if (error != null) {
+            throw error;
+        }
+        return response;
+    }
+}
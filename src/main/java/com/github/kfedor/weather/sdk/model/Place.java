@@ -0,0 +1,14 @@
+package com.github.kfedor.weather.sdk.model;
+
+/**
+ * Named place returned by reverse geocoding.
+ *
+ * @param name      place name, e.g. {@code Helsinki}
+ * @param state     state or region, {@code null} if not reported
+ * @param country   country code, e.g. {@code FI}
+ * @param latitude  latitude of the place in degrees
+ * @param longitude longitude of the place in degrees
+ * @see com.github.kfedor.weather.sdk.WeatherSdk#reverseGeocode(double, double)
+ */
+public record Place(String name, String state, String country, double latitude, double longitude) {
+}
@@ -0,0 +1,10 @@
+package com.github.kfedor.weather.sdk.model;
+
+/**
+ * Current weather at one provider station returned by an area query.
+ *
+ * @param coordinates location of the station
+ * @param weather     current weather at the station
+ */
+public record StationWeather(Coordinates coordinates, WeatherResponse weather) {
+}
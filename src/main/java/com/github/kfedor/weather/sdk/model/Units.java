@@ -0,0 +1,80 @@
+package com.github.kfedor.weather.sdk.model;
+
+/**
+ * Unit systems in which the SDK can present weather data.
+ *
+ * <p>The SDK always fetches and caches data in {@link #STANDARD} units, as the
+ * provider returns them by default. Other systems are derived locally on read,
+ * so supporting several of them costs neither extra provider calls nor extra
+ * cache entries. Converted values are rounded to hundredths, the precision the
+ * provider itself uses.</p>
+ *
+ * <p>Visibility is reported in meters in every unit system.</p>
+ */
+public enum Units {
+
+    /**
+     * Kelvin and meters per second.
+     */
+    STANDARD,
+
+    /**
+     * Degrees Celsius and meters per second.
+     */
+    METRIC,
+
+    /**
+     * Degrees Fahrenheit and miles per hour.
+     */
+    IMPERIAL;
+
+    private static final double ZERO_CELSIUS_KELVIN = 273.15;
+    private static final double MPH_PER_METER_PER_SECOND = 3600 / 1609.344;
+
+    /**
+     * Converts a temperature from Kelvin to this unit system.
+     *
+     * @param kelvin temperature in Kelvin
+     * @return the temperature in this unit system
+     */
+    public double temperature(double kelvin) {
+        return switch (this) {
+            case STANDARD -> kelvin;
+            case METRIC -> round(kelvin - ZERO_CELSIUS_KELVIN);
+            case IMPERIAL -> round((kelvin - ZERO_CELSIUS_KELVIN) * 9 / 5 + 32);
+        };
+    }
+
+    /**
+     * Converts a speed from meters per second to this unit system.
+     *
+     * @param metersPerSecond speed in meters per second
+     * @return the speed in this unit system
+     */
+    public double speed(double metersPerSecond) {
+        return this == IMPERIAL ? round(metersPerSecond * MPH_PER_METER_PER_SECOND) : metersPerSecond;
+    }
+
+    /**
+     * Converts a response in {@link #STANDARD} units to this unit system.
+     *
+     * @param standard response as fetched from the provider
+     * @return the converted response, or {@code standard} itself for {@link #STANDARD}
+     */
+    public WeatherResponse convert(WeatherResponse standard) {
+        if (this == STANDARD) {
+            return standard;
+        }
+        WeatherResponse.Temperature temperature = standard.temperature();
+        WeatherResponse.Wind wind = standard.wind();
+        return standard.toBuilder()
+                .temperature(temperature == null ? null : new WeatherResponse.Temperature(
+                        temperature(temperature.temp()), temperature(temperature.feelsLike())))
+                .wind(wind == null ? null : new WeatherResponse.Wind(speed(wind.speed())))
+                .build();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,359 @@
+package com.github.kfedor.weather.sdk.model;
+
+import com.github.kfedor.weather.sdk.exception.MalformedResponseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Full-fidelity, lazily decoded view of a provider weather payload.
+ *
+ * <p>{@link WeatherResponse} carries only the fields most clients need. This view
+ * keeps the raw {@code /data/2.5/weather} payload bytes and exposes the remaining
+ * provider fields — humidity, pressure, cloudiness, gusts, precipitation and more.
+ * Nothing is parsed until the first accessor is called; the payload is then decoded
+ * in one pass and the values are memoized, so later calls are plain field reads.</p>
+ *
+ * <p>Values the provider did not report are {@code null}.</p>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ */
+public final class WeatherDetails {
+
+    private final byte[] payload;
+    private volatile Fields fields;
+
+    /**
+     * @param payload raw UTF-8 JSON payload of the weather endpoint; not copied, must not be modified afterwards
+     */
+    public WeatherDetails(byte[] payload) {
+        this.payload = payload;
+    }
+
+    private record Fields(Double latitude, Double longitude, Integer conditionId, String icon,
+                          Double tempMin, Double tempMax, Integer pressure, Integer humidity,
+                          Integer seaLevel, Integer groundLevel, Integer windDegree, Double windGust,
+                          Integer cloudiness, Double rain1h, Double rain3h, Double snow1h, Double snow3h,
+                          String country, Long cityId) {
+    }
+
+    /**
+     * Returns the raw payload as a read-only buffer positioned at its start.
+     */
+    public ByteBuffer payload() {
+        return ByteBuffer.wrap(payload).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns whether the payload has been decoded already.
+     */
+    public boolean isDecoded() {
+        return fields != null;
+    }
+
+    /** Latitude of the location. */
+    public Double latitude() {
+        return fields().latitude();
+    }
+
+    /** Longitude of the location. */
+    public Double longitude() {
+        return fields().longitude();
+    }
+
+    /** Provider weather condition id, e.g. {@code 803}. */
+    public Integer conditionId() {
+        return fields().conditionId();
+    }
+
+    /** Provider weather icon id, e.g. {@code 04d}. */
+    public String icon() {
+        return fields().icon();
+    }
+
+    /** Minimum temperature currently observed in the area, Kelvin. */
+    public Double tempMin() {
+        return fields().tempMin();
+    }
+
+    /** Maximum temperature currently observed in the area, Kelvin. */
+    public Double tempMax() {
+        return fields().tempMax();
+    }
+
+    /** Atmospheric pressure, hPa. */
+    public Integer pressure() {
+        return fields().pressure();
+    }
+
+    /** Humidity, %. */
+    public Integer humidity() {
+        return fields().humidity();
+    }
+
+    /** Atmospheric pressure at sea level, hPa. */
+    public Integer seaLevel() {
+        return fields().seaLevel();
+    }
+
+    /** Atmospheric pressure at ground level, hPa. */
+    public Integer groundLevel() {
+        return fields().groundLevel();
+    }
+
+    /** Wind direction, degrees (meteorological). */
+    public Integer windDegree() {
+        return fields().windDegree();
+    }
+
+    /** Wind gust, meters per second. */
+    public Double windGust() {
+        return fields().windGust();
+    }
+
+    /** Cloudiness, %. */
+    public Integer cloudiness() {
+        return fields().cloudiness();
+    }
+
+    /** Rain volume for the last hour, mm. */
+    public Double rain1h() {
+        return fields().rain1h();
+    }
+
+    /** Rain volume for the last three hours, mm. */
+    public Double rain3h() {
+        return fields().rain3h();
+    }
+
+    /** Snow volume for the last hour, mm. */
+    public Double snow1h() {
+        return fields().snow1h();
+    }
+
+    /** Snow volume for the last three hours, mm. */
+    public Double snow3h() {
+        return fields().snow3h();
+    }
+
+    /** Country code, e.g. {@code FI}. */
+    public String country() {
+        return fields().country();
+    }
+
+    /** Provider city id. */
+    public Long cityId() {
+        return fields().cityId();
+    }
+
+    private Fields fields() {
+        Fields decoded = fields;
+        if (decoded == null) {
+            decoded = decode(payload);
+            fields = decoded;
+        }
+        return decoded;
+    }
+
+    private static Fields decode(byte[] payload) {
+        Parser parser = new Parser();
+        try (JsonReader reader = new JsonReader(
+                new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8))) {
+            parser.root(reader);
+        } catch (IOException | IllegalStateException | NumberFormatException ex) {
+            throw new MalformedResponseException("Malformed JSON from weather provider", ex);
+        }
+        return parser.toFields();
+    }
+
+    /**
+     * Single-pass collector of the detail fields.
+     */
+    private static final class Parser {
+        Double latitude;
+        Double longitude;
+        Integer conditionId;
+        String icon;
+        Double tempMin;
+        Double tempMax;
+        Integer pressure;
+        Integer humidity;
+        Integer seaLevel;
+        Integer groundLevel;
+        Integer windDegree;
+        Double windGust;
+        Integer cloudiness;
+        Double rain1h;
+        Double rain3h;
+        Double snow1h;
+        Double snow3h;
+        String country;
+        Long cityId;
+
+        void root(JsonReader in) throws IOException {
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (skipNull(in)) {
+                    continue;
+                }
+                switch (name) {
+                    case "coord" -> coord(in);
+                    case "weather" -> weather(in);
+                    case "main" -> main(in);
+                    case "wind" -> wind(in);
+                    case "clouds" -> clouds(in);
+                    case "rain" -> {
+                        Double[] volumes = precipitation(in);
+                        rain1h = volumes[0];
+                        rain3h = volumes[1];
+                    }
+                    case "snow" -> {
+                        Double[] volumes = precipitation(in);
+                        snow1h = volumes[0];
+                        snow3h = volumes[1];
+                    }
+                    case "sys" -> sys(in);
+                    case "id" -> cityId = in.nextLong();
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+
+        private void coord(JsonReader in) throws IOException {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "lat" -> latitude = nextDouble(in);
+                    case "lon" -> longitude = nextDouble(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+
+        private void weather(JsonReader in) throws IOException {
+            in.beginArray();
+            if (in.hasNext()) {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "id" -> conditionId = nextInt(in);
+                        case "icon" -> icon = nextString(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+            }
+            while (in.hasNext()) {
+                in.skipValue();
+            }
+            in.endArray();
+        }
+
+        private void main(JsonReader in) throws IOException {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "temp_min" -> tempMin = nextDouble(in);
+                    case "temp_max" -> tempMax = nextDouble(in);
+                    case "pressure" -> pressure = nextRounded(in);
+                    case "humidity" -> humidity = nextRounded(in);
+                    case "sea_level" -> seaLevel = nextRounded(in);
+                    case "grnd_level" -> groundLevel = nextRounded(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+
+        private void wind(JsonReader in) throws IOException {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "deg" -> windDegree = nextRounded(in);
+                    case "gust" -> windGust = nextDouble(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+
+        private void clouds(JsonReader in) throws IOException {
+            in.beginObject();
+            while (in.hasNext()) {
+                if (in.nextName().equals("all")) {
+                    cloudiness = nextRounded(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+
+        private static Double[] precipitation(JsonReader in) throws IOException {
+            Double[] volumes = new Double[2];
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "1h" -> volumes[0] = nextDouble(in);
+                    case "3h" -> volumes[1] = nextDouble(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return volumes;
+        }
+
+        private void sys(JsonReader in) throws IOException {
+            in.beginObject();
+            while (in.hasNext()) {
+                if (in.nextName().equals("country")) {
+                    country = nextString(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+
+        Fields toFields() {
+            return new Fields(latitude, longitude, conditionId, icon, tempMin, tempMax, pressure, humidity,
+                    seaLevel, groundLevel, windDegree, windGust, cloudiness, rain1h, rain3h, snow1h, snow3h,
+                    country, cityId);
+        }
+
+        private static boolean skipNull(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return true;
+            }
+            return false;
+        }
+
+        private static Double nextDouble(JsonReader in) throws IOException {
+            return skipNull(in) ? null : in.nextDouble();
+        }
+
+        private static Integer nextInt(JsonReader in) throws IOException {
+            return skipNull(in) ? null : in.nextInt();
+        }
+
+        /**
+         * Reads a measurement the provider reports as a whole number, rounding it
+         * if a payload carries a fraction instead.
+         */
+        private static Integer nextRounded(JsonReader in) throws IOException {
+            return skipNull(in) ? null : (int) Math.round(in.nextDouble());
+        }
+
+        private static String nextString(JsonReader in) throws IOException {
+            return skipNull(in) ? null : in.nextString();
+        }
+    }
+}
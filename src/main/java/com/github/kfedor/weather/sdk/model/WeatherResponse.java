@@ -1,7 +1,6 @@
 package com.github.kfedor.weather.sdk.model;
 
-import lombok.Getter;
-import lombok.Setter;
+import lombok.Builder;
 
 /**
  * Represents the standardized weather data structure returned by the SDK.
@@ -15,49 +14,60 @@ import lombok.Setter;
  * which mirrors the provider’s raw JSON format, this class defines a stable
  * contract that does not depend on provider-specific fields.</p>
  *
+ * <p>Responses are immutable records: the instance held by the cache is handed
+ * to every caller as is and can be shared across threads without copying.
+ * To derive a modified value, use {@link #toBuilder()}:</p>
+ *
+ * <pre>{@code
+ * WeatherResponse renamed = response.toBuilder().name("Helsingfors").build();
+ * }</pre>
+ *
+ * <p>Values are in {@link Units#STANDARD} units unless the response was
+ * requested in other units (see {@link Units#convert(WeatherResponse)}).</p>
+ *
  * <p>Instances of this class are typically returned by
  * {@link com.github.kfedor.weather.sdk.WeatherSdk#getCurrentByCity(String)}
  * and related methods.</p>
  *
+ * @param weather     current conditions, {@code null} if not reported
+ * @param temperature temperatures, {@code null} if not reported
+ * @param visibility  visibility in meters
+ * @param wind        wind data, {@code null} if not reported
+ * @param datetime    time of the observation, Unix seconds (UTC)
+ * @param sys         sunrise and sunset, {@code null} if not reported
+ * @param timezone    shift from UTC in seconds
+ * @param name        city name
  * @see com.github.kfedor.weather.sdk.model.OpenWeatherResponse
  * @see com.github.kfedor.weather.sdk.mapper.WeatherMapper
  */
-@Getter
-@Setter
-public class WeatherResponse {
-    private Weather weather;
-    private Temperature temperature;
-    private int visibility;
-    private Wind wind;
-    private long datetime;
-    private Sys sys;
-    private int timezone;
-    private String name;
+@Builder(toBuilder = true)
+public record WeatherResponse(Weather weather, Temperature temperature, int visibility, Wind wind,
+                              long datetime, Sys sys, int timezone, String name) {
 
-    @Getter
-    @Setter
-    public static class Weather {
-        private String main;
-        private String description;
+    /**
+     * @param main        condition group, e.g. {@code Clouds}
+     * @param description condition within the group, e.g. {@code broken clouds}
+     */
+    public record Weather(String main, String description) {
     }
 
-    @Getter
-    @Setter
-    public static class Temperature {
-        private double temp;
-        private double feels_like;
+    /**
+     * @param temp      temperature in Kelvin (Celsius or Fahrenheit when converted)
+     * @param feelsLike perceived temperature in the same unit as {@code temp}
+     */
+    public record Temperature(double temp, double feelsLike) {
     }
 
-    @Getter
-    @Setter
-    public static class Wind {
-        private double speed;
+    /**
+     * @param speed wind speed in meters per second (miles per hour when converted to imperial)
+     */
+    public record Wind(double speed) {
     }
 
-    @Getter
-    @Setter
-    public static class Sys {
-        private long sunrise;
-        private long sunset;
+    /**
+     * @param sunrise sunrise time, Unix seconds (UTC)
+     * @param sunset  sunset time, Unix seconds (UTC)
+     */
+    public record Sys(long sunrise, long sunset) {
     }
 }
@@ -1,8 +1,19 @@
 package com.github.kfedor.weather.sdk;
 
+import com.github.kfedor.weather.sdk.core.ApiKeyPool;
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import com.github.kfedor.weather.sdk.http.InMemoryTransport;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class WeatherSdkFactoryTest {
 
@@ -31,4 +42,72 @@ class WeatherSdkFactoryTest {
 
         assertThat(recreated).isNotSameAs(initial);
     }
+
+    @Test
+    void routesProviderCallsThroughCustomTransport() {
+        InMemoryTransport transport = InMemoryTransport.synthetic(InMemoryTransport.Latency.none());
+        WeatherSdk sdk = WeatherSdkFactory.create("KEY_IN_MEMORY", WeatherSdk.Mode.ON_DEMAND, 60, transport);
+        try {
+            WeatherResponse response = sdk.getCurrentByCity("Helsinki");
+
+            assertThat(response.name()).startsWith("Synthetic");
+            assertThat(transport.requestCount()).isEqualTo(2);
+        } finally {
+            sdk.destroy();
+        }
+    }
+
+    @Test
+    void servesRetainedJsonWhenConfigured() {
+        InMemoryTransport transport = InMemoryTransport.synthetic(InMemoryTransport.Latency.none());
+        WeatherSdk sdk = WeatherSdkFactory.create("KEY_JSON", WeatherSdk.Mode.ON_DEMAND,
+                WeatherSdkOptions.builder().transport(transport).retainJson(true).build());
+        try {
+            ByteBuffer json = sdk.getCurrentJsonByCoordinates(10.0, 20.0);
+
+            assertThat(StandardCharsets.UTF_8.decode(json).toString()).contains("\"name\":\"Synthetic 10.00,20.00\"");
+            assertThat(sdk.getCurrentByCoordinates(10.0, 20.0).name()).isEqualTo("Synthetic 10.00,20.00");
+            assertThat(transport.requestCount()).isEqualTo(1);
+        } finally {
+            sdk.destroy();
+        }
+    }
+
+    @Test
+    void servesRetainedDetailsWhenConfigured() {
+        InMemoryTransport transport = InMemoryTransport.synthetic(InMemoryTransport.Latency.none());
+        WeatherSdk sdk = WeatherSdkFactory.create("KEY_DETAILS", WeatherSdk.Mode.ON_DEMAND,
+                WeatherSdkOptions.builder().transport(transport).retainDetails(true).build());
+        try {
+            assertThat(sdk.getCurrentByCoordinates(10.0, 20.0).name()).isEqualTo("Synthetic 10.00,20.00");
+            assertThat(sdk.getDetailsByCoordinates(10.0, 20.0).latitude()).isEqualTo(10.0);
+            assertThat(transport.requestCount()).isEqualTo(1);
+        } finally {
+            sdk.destroy();
+        }
+    }
+
+    @Test
+    void returnsSamePooledInstanceForSameKeySet() {
+        WeatherSdk a = WeatherSdkFactory.createPooled(List.of("POOL_1", "POOL_2"), WeatherSdk.Mode.ON_DEMAND);
+        WeatherSdk b = WeatherSdkFactory.createPooled(
+                Map.of("POOL_2", 1, "POOL_1", 1), WeatherSdk.Mode.ON_DEMAND, 60, ApiKeyPool.Strategy.LEAST_USED);
+
+        assertThat(a).isSameAs(b);
+        assertThat(a.getKeyStatus()).hasSize(2);
+        a.destroy();
+    }
+
+    @Test
+    void createPooledRejectsNullKeyBeforeRegistryLookup() {
+        Map<String, Integer> weights = new HashMap<>();
+        weights.put("POOL_3", 1);
+        weights.put(null, 1);
+
+        assertThatThrownBy(() -> WeatherSdkFactory.createPooled(
+                weights, WeatherSdk.Mode.ON_DEMAND, 60, ApiKeyPool.Strategy.LEAST_USED))
+                .isInstanceOf(WeatherSdkException.class)
+                .extracting(ex -> ((WeatherSdkException) ex).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+    }
 }
@@ -0,0 +1,77 @@
+package com.github.kfedor.weather.sdk.benchmark;
+
+import com.github.kfedor.weather.sdk.mapper.SdkGson;
+import com.github.kfedor.weather.sdk.mapper.WeatherResponseCodec;
+import com.github.kfedor.weather.sdk.mapper.WeatherResponseDecoder;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Binary {@link WeatherResponseCodec} against SDK-format JSON through {@link SdkGson}.
+ *
+ * <p>Run with {@code -prof gc}: binary encoding into a reused buffer should report
+ * no allocation per operation.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private WeatherResponse response;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        response = WeatherResponseDecoder.decode(Payloads.current());
+        buffer = ByteBuffer.allocate(256);
+        encoded = ByteBuffer.allocate(WeatherResponseCodec.encodedSize(response));
+        WeatherResponseCodec.encode(response, encoded);
+        encoded.flip();
+        json = SdkGson.gson().toJson(response);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryEncode() {
+        buffer.clear();
+        WeatherResponseCodec.encode(response, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public WeatherResponse binaryDecode() {
+        return WeatherResponseCodec.decode(encoded.rewind());
+    }
+
+    @Benchmark
+    public String jsonEncode() {
+        return SdkGson.gson().toJson(response);
+    }
+
+    @Benchmark
+    public WeatherResponse jsonDecode() {
+        return SdkGson.gson().fromJson(json, WeatherResponse.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CodecBenchmark.class.getSimpleName()).addProfiler("gc").build()).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.kfedor.weather.sdk.benchmark;
+
+import com.github.kfedor.weather.sdk.http.ContentDecoder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Client-side CPU cost of decoding compressed responses versus the bytes saved on the wire.
+ *
+ * <p>Compares {@link ContentDecoder#decode(byte[], String)} for identity, gzip and deflate
+ * bodies on a single current-weather response, a geocoding response and a 20-city group
+ * response. Wire sizes for each payload are printed during setup.</p>
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp target/test-classes:<test classpath> org.openjdk.jmh.Main CompressionBenchmark},
+ * or through {@link #main(String[])} from the IDE.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"current", "geocoding", "group20"})
+    public String payload;
+
+    private byte[] identity;
+    private byte[] gzip;
+    private byte[] deflate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String json = switch (payload) {
+            case "current" -> Payloads.current();
+            case "geocoding" -> Payloads.geocoding();
+            case "group20" -> Payloads.group(20);
+            default -> throw new IllegalArgumentException(payload);
+        };
+        identity = json.getBytes(StandardCharsets.UTF_8);
+        gzip = gzip(identity);
+        deflate = deflate(identity);
+        System.out.printf("%n%s: identity=%d B, gzip=%d B (%.0f%% saved), deflate=%d B (%.0f%% saved)%n",
+                payload, identity.length,
+                gzip.length, 100.0 * (identity.length - gzip.length) / identity.length,
+                deflate.length, 100.0 * (identity.length - deflate.length) / identity.length);
+    }
+
+    @Benchmark
+    public String identity() throws IOException {
+        return ContentDecoder.decode(identity, null);
+    }
+
+    @Benchmark
+    public String gzip() throws IOException {
+        return ContentDecoder.decode(gzip, "gzip");
+    }
+
+    @Benchmark
+    public String deflate() throws IOException {
+        return ContentDecoder.decode(deflate, "deflate");
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CompressionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
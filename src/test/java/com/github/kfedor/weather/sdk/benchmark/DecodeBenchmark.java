@@ -0,0 +1,65 @@
+package com.github.kfedor.weather.sdk.benchmark;
+
+import com.github.kfedor.weather.sdk.mapper.SdkGson;
+import com.github.kfedor.weather.sdk.mapper.WeatherMapper;
+import com.github.kfedor.weather.sdk.mapper.WeatherResponseDecoder;
+import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import com.google.gson.Gson;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of turning a current-weather payload into a {@link WeatherResponse}.
+ *
+ * <ul>
+ *   <li>{@code gsonAndMapper} — reflective Gson binding into {@code OpenWeatherResponse},
+ *       then {@link WeatherMapper#toSdk}</li>
+ *   <li>{@code adaptersAndMapper} — the same with the shared {@link SdkGson} and its
+ *       hand-written type adapters</li>
+ *   <li>{@code streamingDecoder} — single pass with {@link WeatherResponseDecoder}</li>
+ * </ul>
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per operation.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+    private final Gson gson = new Gson();
+    private final String payload = Payloads.current();
+
+    @Benchmark
+    public WeatherResponse gsonAndMapper() {
+        return WeatherMapper.toSdk(gson.fromJson(payload, OpenWeatherResponse.class));
+    }
+
+    @Benchmark
+    public WeatherResponse adaptersAndMapper() {
+        return WeatherMapper.toSdk(SdkGson.gson().fromJson(payload, OpenWeatherResponse.class));
+    }
+
+    @Benchmark
+    public WeatherResponse streamingDecoder() {
+        return WeatherResponseDecoder.decode(payload);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DecodeBenchmark.class.getSimpleName()).addProfiler("gc").build()).run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.kfedor.weather.sdk.benchmark;
+
+import com.github.kfedor.weather.sdk.mapper.WeatherResponseDecoder;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Retained heap of a large set of cached responses, with and without flyweight interning.
+ *
+ * <p>Decodes {@link #ENTRIES} current-weather payloads spread over {@link #CITIES}
+ * city names and {@link #CONDITIONS} weather conditions, keeps them reachable, and
+ * reports the heap growth. The baseline gives every response its own condition
+ * object and its own strings, as the SDK did before interning; the interned run
+ * keeps the values produced by {@link WeatherResponseDecoder}.</p>
+ *
+ * <p>Not a JMH benchmark: it measures retained size rather than time. Run with a
+ * fixed heap for stable numbers, e.g. {@code java -Xms1g -Xmx1g ... HeapFootprintBenchmark}.</p>
+ */
+public final class HeapFootprintBenchmark {
+
+    static final int ENTRIES = 100_000;
+    static final int CITIES = 5_000;
+    static final String[][] CONDITIONS = {
+            {"Clear", "clear sky"}, {"Clouds", "few clouds"}, {"Clouds", "scattered clouds"},
+            {"Clouds", "broken clouds"}, {"Clouds", "overcast clouds"}, {"Rain", "light rain"},
+            {"Rain", "moderate rain"}, {"Snow", "light snow"}, {"Mist", "mist"}, {"Thunderstorm", "thunderstorm"}
+    };
+
+    private HeapFootprintBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        long baseline = retained(false);
+        long interned = retained(true);
+        System.out.printf(Locale.ROOT, "entries=%d cities=%d conditions=%d%n", ENTRIES, CITIES, CONDITIONS.length);
+        System.out.printf(Locale.ROOT, "without interning: %,d bytes (%.1f B/entry)%n", baseline, (double) baseline / ENTRIES);
+        System.out.printf(Locale.ROOT, "with interning:    %,d bytes (%.1f B/entry)%n", interned, (double) interned / ENTRIES);
+    }
+
+    private static long retained(boolean interned) {
+        long before = usedAfterGc();
+        List<WeatherResponse> cache = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            String[] condition = CONDITIONS[i % CONDITIONS.length];
+            String json = Payloads.current(i, "City " + (i % CITIES), 40.0 + i * 1e-4, 20.0 + i * 1e-4)
+                    .replace("\"Clouds\",\"description\":\"broken clouds\"",
+                            "\"" + condition[0] + "\",\"description\":\"" + condition[1] + "\"");
+            WeatherResponse response = WeatherResponseDecoder.decode(json);
+            cache.add(interned ? response : unshared(response));
+        }
+        long after = usedAfterGc();
+        if (cache.size() != ENTRIES) {
+            throw new IllegalStateException();
+        }
+        return after - before;
+    }
+
+    private static WeatherResponse unshared(WeatherResponse response) {
+        return response.toBuilder()
+                .weather(new WeatherResponse.Weather(new String(response.weather().main()),
+                        new String(response.weather().description())))
+                .name(new String(response.name()))
+                .build();
+    }
+
+    private static long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.kfedor.weather.sdk.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Representative OpenWeather payloads shared by the benchmarks.
+ */
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    /**
+     * Full {@code /data/2.5/weather} response, including the fields the SDK does not map.
+     */
+    static String current(int id, String name, double latitude, double longitude) {
+        return String.format(Locale.ROOT, """
+                {"coord":{"lon":%.4f,"lat":%.4f},\
+                "weather":[{"id":803,"main":"Clouds","description":"broken clouds","icon":"04d"}],\
+                "base":"stations",\
+                "main":{"temp":280.15,"feels_like":278.5,"temp_min":279.26,"temp_max":281.48,"pressure":1012,"humidity":81,"sea_level":1012,"grnd_level":1009},\
+                "visibility":10000,\
+                "wind":{"speed":3.6,"deg":230,"gust":6.17},\
+                "clouds":{"all":75},\
+                "dt":1675744800,\
+                "sys":{"type":2,"id":2011913,"country":"FI","sunrise":1675751262,"sunset":1675787560},\
+                "timezone":7200,"id":%d,"name":"%s","cod":200}""", longitude, latitude, id, name);
+    }
+
+    /**
+     * Single current-weather response for Helsinki.
+     */
+    static String current() {
+        return current(658225, "Helsinki", 60.1699, 24.9384);
+    }
+
+    private static final Object[][] CITIES = {
+            {658225, "Helsinki", "FI", 60.1692, 24.9402, 7200},
+            {2643743, "London", "GB", 51.5085, -0.1257, 0},
+            {2988507, "Paris", "FR", 48.8534, 2.3488, 3600},
+            {2950159, "Berlin", "DE", 52.5244, 13.4105, 3600},
+            {3117735, "Madrid", "ES", 40.4165, -3.7026, 3600},
+            {3169070, "Rome", "IT", 41.8947, 12.4839, 3600},
+            {524901, "Moscow", "RU", 55.7522, 37.6156, 10800},
+            {745044, "Istanbul", "TR", 41.0138, 28.9497, 10800},
+            {360630, "Cairo", "EG", 30.0626, 31.2497, 7200},
+            {292223, "Dubai", "AE", 25.2582, 55.3047, 14400},
+            {1275339, "Mumbai", "IN", 19.0144, 72.8479, 19800},
+            {1880252, "Singapore", "SG", 1.2897, 103.8501, 28800},
+            {1816670, "Beijing", "CN", 39.9075, 116.3972, 28800},
+            {1850147, "Tokyo", "JP", 35.6895, 139.6917, 32400},
+            {2147714, "Sydney", "AU", -33.8679, 151.2073, 39600},
+            {5128581, "New York", "US", 40.7143, -74.006, -18000},
+            {4887398, "Chicago", "US", 41.85, -87.65, -21600},
+            {5368361, "Los Angeles", "US", 34.0522, -118.2437, -28800},
+            {3435910, "Buenos Aires", "AR", -34.6132, -58.3772, -10800},
+            {3448439, "São Paulo", "BR", -23.5475, -46.6361, -10800},
+    };
+
+    private static final String[][] CONDITIONS = {
+            {"800", "Clear", "clear sky", "01"},
+            {"801", "Clouds", "few clouds", "02"},
+            {"802", "Clouds", "scattered clouds", "03"},
+            {"803", "Clouds", "broken clouds", "04"},
+            {"804", "Clouds", "overcast clouds", "04"},
+            {"500", "Rain", "light rain", "10"},
+            {"501", "Rain", "moderate rain", "10"},
+            {"600", "Snow", "light snow", "13"},
+            {"701", "Mist", "mist", "50"},
+            {"211", "Thunderstorm", "thunderstorm", "11"},
+    };
+
+    /**
+     * {@code /data/2.5/group} style response with up to 20 real cities.
+     *
+     * <p>Every city gets its own conditions, readings, station and sun times, drawn
+     * from a fixed seed, so the payload compresses like a real group answer rather
+     * than like 20 copies of one object.</p>
+     */
+    static String group(int count) {
+        Random random = new Random(42);
+        int cities = Math.min(count, CITIES.length);
+        long dt = 1675744800L;
+        StringBuilder json = new StringBuilder("{\"cnt\":").append(cities).append(",\"list\":[");
+        for (int i = 0; i < cities; i++) {
+            Object[] city = CITIES[i];
+            String[] condition = CONDITIONS[random.nextInt(CONDITIONS.length)];
+            double temp = 250 + random.nextInt(5500) / 100.0;
+            int timezone = (int) city[5];
+            long sunrise = dt - timezone + 21_600 + random.nextInt(7_200);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT, """
+                    {"coord":{"lon":%.4f,"lat":%.4f},\
+                    "sys":{"country":"%s","timezone":%d,"sunrise":%d,"sunset":%d},\
+                    "weather":[{"id":%s,"main":"%s","description":"%s","icon":"%s%s"}],\
+                    "main":{"temp":%.2f,"feels_like":%.2f,"temp_min":%.2f,"temp_max":%.2f,\
+                    "pressure":%d,"sea_level":%d,"grnd_level":%d,"humidity":%d},\
+                    "visibility":%d,"wind":{"speed":%.2f,"deg":%d,"gust":%.2f},"clouds":{"all":%d},\
+                    "dt":%d,"id":%d,"name":"%s"}""",
+                    (double) city[4], (double) city[3],
+                    city[2], timezone, sunrise, sunrise + 30_000 + random.nextInt(14_000),
+                    condition[0], condition[1], condition[2], condition[3], random.nextBoolean() ? "d" : "n",
+                    temp, temp - random.nextInt(600) / 100.0, temp - random.nextInt(300) / 100.0,
+                    temp + random.nextInt(300) / 100.0,
+                    995 + random.nextInt(35), 995 + random.nextInt(35), 960 + random.nextInt(60), 20 + random.nextInt(80),
+                    1000 + random.nextInt(9_001), random.nextInt(1500) / 100.0, random.nextInt(360),
+                    random.nextInt(2500) / 100.0, random.nextInt(101),
+                    dt - random.nextInt(1800), (int) city[0], city[1]));
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * {@code /geo/1.0/direct} response with {@code limit=1}.
+     */
+    static String geocoding() {
+        return """
+                [{"name":"Helsinki","local_names":{"fi":"Helsinki","sv":"Helsingfors","en":"Helsinki","ru":"Хельсинки"},\
+                "lat":60.1674881,"lon":24.9427473,"country":"FI","state":"Uusimaa"}]""";
+    }
+}
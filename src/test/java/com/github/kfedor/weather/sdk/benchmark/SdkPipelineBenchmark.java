@@ -0,0 +1,75 @@
+package com.github.kfedor.weather.sdk.benchmark;
+
+import com.github.kfedor.weather.sdk.WeatherSdk;
+import com.github.kfedor.weather.sdk.WeatherSdkFactory;
+import com.github.kfedor.weather.sdk.http.InMemoryTransport;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of the full {@link WeatherSdk} pipeline with no network involved.
+ *
+ * <p>Provider calls are served by {@link InMemoryTransport#synthetic(InMemoryTransport.Latency)}
+ * with zero latency, so the numbers reflect SDK overhead only: cache lookups,
+ * URL building, JSON parsing and mapping.</p>
+ *
+ * <ul>
+ *   <li>{@code cacheHit} — repeated lookups of one cached location</li>
+ *   <li>{@code cacheMiss} — random coordinates, each call goes through the transport</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class SdkPipelineBenchmark {
+
+    private WeatherSdk sdk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sdk = WeatherSdkFactory.create("benchmark-pipeline-key", WeatherSdk.Mode.ON_DEMAND, 60,
+                InMemoryTransport.synthetic(InMemoryTransport.Latency.none()));
+        sdk.getCurrentByCoordinates(60.1699, 24.9384);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sdk.destroy();
+    }
+
+    @Benchmark
+    public WeatherResponse cacheHit() {
+        return sdk.getCurrentByCoordinates(60.1699, 24.9384);
+    }
+
+    @Benchmark
+    public WeatherResponse cacheMiss() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return sdk.getCurrentByCoordinates(random.nextDouble(-90, 90), random.nextDouble(-180, 180));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SdkPipelineBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.exception.ThrottledException;
+import com.github.kfedor.weather.sdk.exception.UnauthorizedException;
+import com.github.kfedor.weather.sdk.http.Transport;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ApiKeyPoolTest {
+
+    private static final URI URI_ANY = URI.create("https://api.example.com/weather");
+
+    private static ApiKeyPool pool(Map<String, Integer> weights, ApiKeyPool.Strategy strategy) {
+        Map<String, Transport> transports = new LinkedHashMap<>();
+        weights.keySet().forEach(key -> transports.put(key, mock(Transport.class)));
+        return new ApiKeyPool(weights, transports, strategy);
+    }
+
+    private static Map<String, Integer> weights(Object... keyWeightPairs) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (int i = 0; i < keyWeightPairs.length; i += 2) {
+            weights.put((String) keyWeightPairs[i], (Integer) keyWeightPairs[i + 1]);
+        }
+        return weights;
+    }
+
+    private static String nextKey(ApiKeyPool pool) throws Exception {
+        return pool.call((key, http) -> key);
+    }
+
+    @Test
+    void leastUsedSpreadsCallsEvenly() throws Exception {
+        ApiKeyPool pool = pool(weights("A", 1, "B", 1, "C", 1), ApiKeyPool.Strategy.LEAST_USED);
+
+        List<String> used = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            used.add(nextKey(pool));
+        }
+
+        assertThat(used).containsExactly("A", "B", "C", "A", "B", "C");
+    }
+
+    @Test
+    void weightedRoundRobinFollowsWeights() throws Exception {
+        ApiKeyPool pool = pool(weights("A", 3, "B", 1), ApiKeyPool.Strategy.WEIGHTED_ROUND_ROBIN);
+
+        List<String> used = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            used.add(nextKey(pool));
+        }
+
+        assertThat(used).filteredOn("A"::equals).hasSize(6);
+        assertThat(used).filteredOn("B"::equals).hasSize(2);
+    }
+
+    @Test
+    void retriesThrottledCallOnTheNextKey() throws Exception {
+        ApiKeyPool pool = pool(weights("A", 1, "B", 1), ApiKeyPool.Strategy.LEAST_USED);
+
+        String result = pool.call((key, http) -> {
+            if (key.equals("A")) {
+                throw new ThrottledException("Too many requests (HTTP 429)", 60_000L);
+            }
+            return "answer from " + key;
+        });
+
+        assertThat(result).isEqualTo("answer from B");
+        assertThat(nextKey(pool)).isEqualTo("B");
+        assertThat(nextKey(pool)).isEqualTo("B");
+        assertThat(pool.status().get(0).available()).isFalse();
+        assertThat(pool.status().get(1).available()).isTrue();
+    }
+
+    @Test
+    void failsFastWhenAllKeysAreThrottled() throws Exception {
+        ApiKeyPool pool = pool(weights("A", 1), ApiKeyPool.Strategy.LEAST_USED);
+        Transport transport = mock(Transport.class);
+
+        assertThatThrownBy(() -> pool.call((key, http) -> {
+            throw new ThrottledException("Too many requests (HTTP 429)", 60_000L);
+        })).isInstanceOf(ThrottledException.class);
+
+        assertThatThrownBy(() -> pool.call((key, http) -> transport.get(URI_ANY)))
+                .isInstanceOf(ThrottledException.class)
+                .hasMessageContaining("All API keys are throttled");
+    }
+
+    @Test
+    void sidelinesUnauthorizedKeyOnlyWhenOthersCanTakeOver() throws Exception {
+        ApiKeyPool single = pool(weights("A", 1), ApiKeyPool.Strategy.LEAST_USED);
+        assertThatThrownBy(() -> single.call((key, http) -> {
+            throw new UnauthorizedException("Unauthorized: bad API key (HTTP 401)");
+        })).isInstanceOf(UnauthorizedException.class);
+        assertThat(nextKey(single)).isEqualTo("A");
+
+        ApiKeyPool pooled = pool(weights("A", 1, "B", 1), ApiKeyPool.Strategy.LEAST_USED);
+        String used = pooled.call((key, http) -> {
+            if (key.equals("A")) {
+                throw new UnauthorizedException("Unauthorized: bad API key (HTTP 401)");
+            }
+            return key;
+        });
+        assertThat(used).isEqualTo("B");
+        assertThat(nextKey(pooled)).isEqualTo("B");
+        assertThat(nextKey(pooled)).isEqualTo("B");
+    }
+
+    @Test
+    void triesEveryKeyOnceBeforeFailing() {
+        ApiKeyPool pool = pool(weights("A", 1, "B", 1, "C", 1), ApiKeyPool.Strategy.WEIGHTED_ROUND_ROBIN);
+        List<String> tried = new ArrayList<>();
+
+        assertThatThrownBy(() -> pool.call((key, http) -> {
+            tried.add(key);
+            throw new ThrottledException("Too many requests (HTTP 429)", 60_000L);
+        })).isInstanceOf(ThrottledException.class);
+
+        assertThat(tried).containsExactlyInAnyOrder("A", "B", "C");
+        assertThat(pool.throttleStatus().throttled()).isTrue();
+    }
+
+    @Test
+    void masksApiKeysInStatus() {
+        ApiKeyPool pool = pool(weights("secret-key-1234", 1), ApiKeyPool.Strategy.LEAST_USED);
+
+        assertThat(pool.status().get(0).apiKey()).isEqualTo("***********1234");
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.exception.BulkheadFullException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    @Test
+    void runsBackgroundWorkWhenInteractiveCapacityIsFree() {
+        Bulkhead bulkhead = new Bulkhead(2, 1);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        bulkhead.background(() -> ran.set(true));
+
+        assertThat(ran).isTrue();
+        assertThat(bulkhead.shedCount()).isZero();
+    }
+
+    @Test
+    void shedsBackgroundWorkWhileInteractiveCapacityIsSaturated() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> bulkhead.interactive(() -> {
+                inside.countDown();
+                await(release);
+                return null;
+            }));
+            assertThat(inside.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> bulkhead.background(() -> {
+            })).isInstanceOf(BulkheadFullException.class);
+            assertThat(bulkhead.shedCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shedsBackgroundWorkBeyondItsOwnLimit() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(4, 1);
+
+        bulkhead.background(() -> assertThatThrownBy(() -> bulkhead.background(() -> {
+        })).isInstanceOf(BulkheadFullException.class));
+
+        assertThat(bulkhead.shedCount()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
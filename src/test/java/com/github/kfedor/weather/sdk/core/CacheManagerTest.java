@@ -1,6 +1,9 @@
 package com.github.kfedor.weather.sdk.core;
 
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -9,9 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 class CacheManagerTest {
 
     private static WeatherResponse sample(String name) {
-        WeatherResponse response = new WeatherResponse();
-        response.setName(name);
-        return response;
+        return WeatherResponse.builder().name(name).build();
     }
 
     @Test
@@ -22,7 +23,7 @@ class CacheManagerTest {
 
         CacheItem cacheItem = cache.getIfNotExpired(key);
         assertThat(cacheItem).isNotNull();
-        assertThat(cacheItem.weatherResponse().getName()).isEqualTo("Paris");
+        assertThat(cacheItem.weatherResponse().name()).isEqualTo("Paris");
         assertThat(cacheItem.requestInfo()).isNotNull();
     }
 
@@ -37,6 +38,18 @@ class CacheManagerTest {
         assertThat(cacheItem).isNull();
     }
 
+    @Test
+    void getAllIfNotExpiredReturnsOnlyFreshKnownKeys() throws Exception {
+        CacheManager cache = new CacheManager(50L, 10);
+        cache.put("old", sample("Old"), RequestInfo.city("Old"));
+        Thread.sleep(60);
+        cache.put("new", sample("New"), RequestInfo.city("New"));
+
+        Map<String, CacheItem> fresh = cache.getAllIfNotExpired(List.of("old", "new", "unknown"));
+
+        assertThat(fresh).containsOnlyKeys("new");
+    }
+
     @Test
     void lruEvictsLeastRecentlyUsedWhenOverCapacity() {
         CacheManager cache = new CacheManager(60_000L, 2);
@@ -74,6 +87,28 @@ class CacheManagerTest {
         assertThat(requestInfo.longitude()).isCloseTo(30.3, within(1e-9));
     }
 
+    @Test
+    void retainsSerializedJsonWhenEnabled() {
+        CacheManager cache = new CacheManager(60_000L, 10, true);
+        cache.put("oslo", sample("Oslo"), RequestInfo.city("Oslo"));
+
+        CacheItem cacheItem = cache.getIfNotExpired("oslo");
+        ByteBuffer first = cacheItem.json();
+        ByteBuffer second = cacheItem.json();
+
+        assertThat(first.isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(first).toString()).contains("\"name\":\"Oslo\"");
+        assertThat(second.position()).isZero();
+        assertThat(second.remaining()).isEqualTo(second.limit());
+    }
+
+    @Test
+    void doesNotRetainJsonByDefault() {
+        CacheManager cache = new CacheManager(60_000L, 10);
+
+        assertThat(cache.put("oslo", sample("Oslo"), RequestInfo.city("Oslo")).json()).isNull();
+    }
+
     @Test
     void clearRemovesAllEntries() {
         CacheManager cache = new CacheManager(60_000L, 10);
@@ -90,4 +125,41 @@ class CacheManagerTest {
     private static org.assertj.core.data.Offset<Double> within(double delta) {
         return org.assertj.core.data.Offset.offset(delta);
     }
+
+    @Test
+    void getNearestIfNotExpiredFollowsWritesAndEvictions() {
+        CacheManager cache = new CacheManager(60_000L, 2);
+        cache.put("a", sample("A"), RequestInfo.coordinates(60.171, 24.941));
+        cache.put("b", sample("B"), RequestInfo.coordinates(60.18, 24.95));
+
+        assertThat(cache.getNearestIfNotExpired(60.1699, 24.9384, 2).weatherResponse().name()).isEqualTo("A");
+
+        cache.getIfNotExpired("b");
+        cache.put("c", sample("C"), RequestInfo.city("C"));
+
+        assertThat(cache.getNearestIfNotExpired(60.1699, 24.9384, 2).weatherResponse().name()).isEqualTo("B");
+        assertThat(cache.getNearestIfNotExpired(60.1699, 24.9384, 0.1)).isNull();
+    }
+
+    @Test
+    void getNearestIfNotExpiredSkipsExpiredEntries() throws Exception {
+        CacheManager cache = new CacheManager(30L, 10);
+        cache.put("old", sample("Old"), RequestInfo.coordinates(60.1700, 24.9385));
+        Thread.sleep(40);
+        cache.put("new", sample("New"), RequestInfo.coordinates(60.1800, 24.9500));
+
+        assertThat(cache.getNearestIfNotExpired(60.1699, 24.9384, 5).weatherResponse().name()).isEqualTo("New");
+    }
+
+    @Test
+    void getIfYoungerThanAppliesCallerBoundInsteadOfTtl() throws Exception {
+        CacheManager cache = new CacheManager(10L, 10);
+        cache.put("oslo", sample("Oslo"), RequestInfo.city("Oslo"));
+        Thread.sleep(20);
+
+        assertThat(cache.getIfNotExpired("oslo")).isNull();
+        assertThat(cache.getIfYoungerThan("oslo", 60_000L)).isNotNull();
+        assertThat(cache.getIfYoungerThan("oslo", 5L)).isNull();
+        assertThat(cache.getIfYoungerThan("unknown", 60_000L)).isNull();
+    }
 }
@@ -0,0 +1,85 @@
+package com.github.kfedor.weather.sdk.core;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityIndexTest {
+
+    @Test
+    void suggestRanksPrefixMatchesByLookups() {
+        CityIndex index = new CityIndex(100);
+        index.add("Paris");
+        index.add("Parma");
+        index.add("Palermo");
+        index.add("Berlin");
+        index.record("Parma");
+        index.record("parma");
+        index.record("Palermo");
+
+        assertThat(index.suggest("pa", 10)).containsExactly("Parma", "Palermo", "Paris");
+        assertThat(index.suggest("PAR", 1)).containsExactly("Parma");
+        assertThat(index.suggest("x", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    void tiesAreBrokenAlphabeticallyAndFirstSpellingIsKept() {
+        CityIndex index = new CityIndex(100);
+        index.record("oslo");
+        index.record("Osaka");
+        index.record("OSLO");
+
+        assertThat(index.suggest("os", 10)).containsExactly("oslo", "Osaka");
+        index.record("Osaka");
+        assertThat(index.suggest("os", 10)).containsExactly("Osaka", "oslo");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void leastLookedUpNameIsEvictedWhenFull() {
+        CityIndex index = new CityIndex(2);
+        index.record("Oslo");
+        index.record("Oslo");
+        index.record("Osaka");
+        index.add("Ostrava");
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.suggest("os", 10)).containsExactly("Oslo", "Ostrava");
+    }
+
+    @Test
+    void evictionSamplesBoundedWindowsAndSparesPopularNames() {
+        CityIndex index = new CityIndex(100);
+        index.record("Aalborg");
+        index.record("Aalborg");
+        for (int i = 0; i < 1_000; i++) {
+            index.add("City " + i);
+        }
+
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.suggest("aal", 1)).containsExactly("Aalborg");
+        assertThat(index.suggest("city 999", 1)).containsExactly("City 999");
+    }
+
+    @Test
+    void concurrentRecordingCountsEveryLookup() {
+        CityIndex index = new CityIndex(100);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        index.record("City " + (i % 100));
+                        index.suggest("city 1", 5);
+                    }
+                });
+            }
+        }
+        index.record("City 42");
+
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.suggest("city 4", 1)).containsExactly("City 42");
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.kfedor.weather.sdk.core;
+
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityNamesTest {
+
+    @Test
+    void spellingVariantsShareOneCanonicalForm() {
+        assertThat(CityNames.canonical("São Paulo")).isEqualTo("sao paulo");
+        assertThat(CityNames.canonical("Sao Paulo")).isEqualTo("sao paulo");
+        assertThat(CityNames.canonical(" sao  paulo\t")).isEqualTo("sao paulo");
+        assertThat(CityNames.canonical("SÃO PAULO")).isEqualTo("sao paulo");
+        assertThat(CityNames.canonical("Zürich")).isEqualTo(CityNames.canonical("Zürich"));
+    }
+
+    @Test
+    void resultDoesNotDependOnDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertThat(CityNames.canonical("ISTANBUL")).isEqualTo("istanbul");
+            assertThat(CityNames.canonical("İzmir")).isEqualTo("izmir");
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void marksOfNonLatinScriptsAreKept() {
+        assertThat(CityNames.canonical("\u30d1\u30ea")).isEqualTo("\u30d1\u30ea");
+        assertThat(CityNames.canonical("\u30d0\u30ea")).isEqualTo("\u30d0\u30ea");
+        assertThat(CityNames.canonical("\u30d1\u30ea")).isNotEqualTo(CityNames.canonical("\u30d0\u30ea"));
+    }
+
+    @Test
+    void devanagariVowelSignsAreKept() {
+        String delhi = "\u0926\u093f\u0932\u094d\u0932\u0940";
+        assertThat(CityNames.canonical(delhi)).isEqualTo(delhi);
+        assertThat(CityNames.canonical(delhi)).isNotEqualTo("\u0926\u0932\u0932");
+    }
+
+    @Test
+    void compatibilityFormsAreFolded() {
+        assertThat(CityNames.canonical("Ｔｏｋｙｏ")).isEqualTo("tokyo");
+        assertThat(CityNames.canonical(" \u0301\u00a0")).isEmpty();
+    }
+}
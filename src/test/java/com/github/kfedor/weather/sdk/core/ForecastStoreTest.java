@@ -0,0 +1,66 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForecastStoreTest {
+
+    private static WeatherResponse slice(long datetime, double temp) {
+        return WeatherResponse.builder()
+                .datetime(datetime)
+                .temperature(new WeatherResponse.Temperature(temp, temp - 1))
+                .build();
+    }
+
+    @Test
+    void mergeReplacesOnlyChangedSlices() {
+        ForecastStore store = new ForecastStore(60_000L, 10);
+        WeatherResponse first = slice(10_800, 280.0);
+        WeatherResponse second = slice(21_600, 281.0);
+        assertThat(store.merge("oslo", List.of(first, second))).isEqualTo(2);
+
+        int changed = store.merge("oslo", List.of(slice(10_800, 280.0), slice(21_600, 283.0), slice(32_400, 284.0)));
+
+        List<WeatherResponse> slices = store.slices("oslo", 0, 40_000);
+        assertThat(changed).isEqualTo(2);
+        assertThat(slices).hasSize(3);
+        assertThat(slices.get(0)).isSameAs(first);
+        assertThat(slices.get(1).temperature().temp()).isEqualTo(283.0);
+    }
+
+    @Test
+    void mergeDropsSlicesNoLongerReturned() {
+        ForecastStore store = new ForecastStore(60_000L, 10);
+        store.merge("oslo", List.of(slice(10_800, 280.0), slice(21_600, 281.0)));
+
+        store.merge("oslo", List.of(slice(21_600, 281.0)));
+
+        assertThat(store.slices("oslo", 0, 40_000)).extracting(WeatherResponse::datetime).containsExactly(21_600L);
+    }
+
+    @Test
+    void slicesReturnsWindowExclusiveOfStart() {
+        ForecastStore store = new ForecastStore(60_000L, 10);
+        store.merge("oslo", List.of(slice(10_800, 280.0), slice(21_600, 281.0), slice(32_400, 282.0)));
+
+        assertThat(store.slices("oslo", 10_800, 32_400)).extracting(WeatherResponse::datetime)
+                .containsExactly(21_600L, 32_400L);
+        assertThat(store.slices("unknown", 0, 40_000)).isEmpty();
+    }
+
+    @Test
+    void freshnessFollowsTtlAndExpiredForecastStaysReadable() throws Exception {
+        ForecastStore store = new ForecastStore(20L, 10);
+        store.merge("oslo", List.of(slice(10_800, 280.0)));
+        assertThat(store.isFresh("oslo")).isTrue();
+
+        Thread.sleep(30);
+
+        assertThat(store.isFresh("oslo")).isFalse();
+        assertThat(store.contains("oslo")).isTrue();
+        assertThat(store.slices("oslo", 0, 40_000)).hasSize(1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GazetteerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void findResolvesEveryWrittenCity() throws Exception {
+        Map<String, GeocodingClient.Location> cities = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            cities.put("City " + i, new GeocodingClient.Location(i / 100.0, -i / 100.0));
+        }
+        cities.put("São Paulo", new GeocodingClient.Location(-23.55, -46.633));
+        Path file = dir.resolve("cities.tsv");
+        Gazetteer.write(file, cities);
+
+        Gazetteer gazetteer = Gazetteer.open(file);
+
+        for (int i = 0; i < 2_000; i++) {
+            assertThat(gazetteer.find("city " + i)).contains(new GeocodingClient.Location(i / 100.0, -i / 100.0));
+        }
+        assertThat(gazetteer.find("  SÃO PAULO ")).contains(new GeocodingClient.Location(-23.55, -46.633));
+    }
+
+    @Test
+    void findReturnsEmptyForUnknownNamesAndPrefixes() throws Exception {
+        Map<String, GeocodingClient.Location> cities = new LinkedHashMap<>();
+        cities.put("Oslo", new GeocodingClient.Location(59.91, 10.75));
+        cities.put("Osaka", new GeocodingClient.Location(34.69, 135.5));
+        Path file = dir.resolve("cities.tsv");
+        Gazetteer.write(file, cities);
+
+        Gazetteer gazetteer = Gazetteer.open(file);
+
+        assertThat(gazetteer.find("Os")).isEmpty();
+        assertThat(gazetteer.find("Oslo2")).isEmpty();
+        assertThat(gazetteer.find("Zurich")).isEmpty();
+        assertThat(gazetteer.find("Aachen")).isEmpty();
+        assertThat(gazetteer.find("Osaka")).isPresent();
+    }
+
+    @Test
+    void writeKeepsLayoutForNamesWithTabsAndLineBreaks() throws Exception {
+        Map<String, GeocodingClient.Location> cities = new LinkedHashMap<>();
+        cities.put("New\tYork", new GeocodingClient.Location(40.71, -74.01));
+        cities.put("Rio de\nJaneiro", new GeocodingClient.Location(-22.91, -43.17));
+        cities.put("Oslo", new GeocodingClient.Location(59.91, 10.75));
+        Path file = dir.resolve("cities.tsv");
+        Gazetteer.write(file, cities);
+
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8))
+                .hasSize(3)
+                .allMatch(line -> line.split("\t", -1).length == 3);
+        Gazetteer gazetteer = Gazetteer.open(file);
+        assertThat(gazetteer.find("new york")).contains(new GeocodingClient.Location(40.71, -74.01));
+        assertThat(gazetteer.find("Rio de Janeiro")).contains(new GeocodingClient.Location(-22.91, -43.17));
+        assertThat(gazetteer.find("oslo")).contains(new GeocodingClient.Location(59.91, 10.75));
+    }
+
+    @Test
+    void writeRejectsBlankNames() {
+        Map<String, GeocodingClient.Location> cities = Map.of("\t\n", new GeocodingClient.Location(0, 0));
+
+        assertThatThrownBy(() -> Gazetteer.write(dir.resolve("cities.tsv"), cities))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("Invalid gazetteer city name");
+    }
+
+    @Test
+    void emptyFileKnowsNothing() throws Exception {
+        Path file = Files.createFile(dir.resolve("empty.tsv"));
+
+        assertThat(Gazetteer.open(file).find("Oslo")).isEmpty();
+    }
+
+    @Test
+    void findRejectsMalformedLine() throws Exception {
+        Path file = dir.resolve("broken.tsv");
+        Files.writeString(file, "oslo\tnorth\teast\n", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> Gazetteer.open(file).find("Oslo"))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("Malformed gazetteer line");
+    }
+}
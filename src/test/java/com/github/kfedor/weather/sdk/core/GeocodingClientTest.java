@@ -2,10 +2,14 @@ package com.github.kfedor.weather.sdk.core;
 
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
 import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.model.Place;
 import java.net.URI;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -13,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class GeocodingClientTest {
@@ -73,6 +78,43 @@ class GeocodingClientTest {
         assertThat(uri).matches(".*q=Saint\\+Petersburg.*");
     }
 
+    @Test
+    void reverseGeocodeReadsPlaceAndCachesIt() throws Exception {
+        when(requestExecutor.get(any(URI.class))).thenReturn("""
+                [{"name":"Helsinki","local_names":{"fi":"Helsinki"},"lat":60.1674881,"lon":24.9427473,"country":"FI"}]""");
+
+        Optional<Place> place = geocodingClient.reverseGeocode(60.1699, 24.9384);
+        Optional<Place> again = geocodingClient.reverseGeocode(60.1702, 24.9391);
+
+        ArgumentCaptor<URI> uri = ArgumentCaptor.forClass(URI.class);
+        verify(requestExecutor).get(uri.capture());
+        assertThat(uri.getValue().getPath()).isEqualTo("/geo/1.0/reverse");
+        assertThat(uri.getValue().getQuery()).contains("lat=60.170000", "lon=24.940000", "limit=1");
+        assertThat(place).contains(new Place("Helsinki", null, "FI", 60.1674881, 24.9427473));
+        assertThat(again).isEqualTo(place);
+    }
+
+    @Test
+    void reverseGeocodeReturnsEmptyWhenNothingThere() throws Exception {
+        when(requestExecutor.get(any(URI.class))).thenReturn("[]");
+
+        assertThat(geocodingClient.reverseGeocode(0.0, -30.0)).isEmpty();
+    }
+
+    @Test
+    void findFirstLocationPrefersGazetteerAndFallsBackToProvider(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("cities.tsv");
+        Gazetteer.write(file, Map.of("Helsinki", new GeocodingClient.Location(60.1699, 24.9384)));
+        GeocodingClient offline = new GeocodingClient(ApiKeyPool.single("TEST_KEY", requestExecutor), Gazetteer.open(file));
+        when(requestExecutor.get(any(URI.class))).thenReturn("[{\"lat\":59.91,\"lon\":10.75}]");
+
+        assertThat(offline.findFirstLocation("helsinki")).contains(new GeocodingClient.Location(60.1699, 24.9384));
+        verifyNoInteractions(requestExecutor);
+
+        assertThat(offline.findFirstLocation("Oslo")).contains(new GeocodingClient.Location(59.91, 10.75));
+        verify(requestExecutor).get(any(URI.class));
+    }
+
     private static org.assertj.core.data.Offset<Double> within(double delta) {
         return org.assertj.core.data.Offset.offset(delta);
     }
@@ -0,0 +1,54 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NegativeCacheTest {
+
+    private static final NotFoundException MISSING = new NotFoundException("City not found: Atlantis");
+
+    @Test
+    void returnsRememberedFailureWhileFresh() {
+        NegativeCache cache = new NegativeCache(1_000L, 10);
+        cache.put("atlantis", MISSING);
+
+        assertThat(cache.get("atlantis")).isSameAs(MISSING);
+        assertThat(cache.get("paris")).isNull();
+    }
+
+    @Test
+    void dropsExpiredEntries() throws Exception {
+        NegativeCache cache = new NegativeCache(10L, 10);
+        cache.put("atlantis", MISSING);
+
+        Thread.sleep(20);
+
+        assertThat(cache.get("atlantis")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenFull() {
+        NegativeCache cache = new NegativeCache(60_000L, 2);
+        cache.put("a", MISSING);
+        cache.put("b", MISSING);
+        cache.get("a");
+
+        cache.put("c", MISSING);
+
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void zeroTtlDisablesCache() {
+        NegativeCache cache = new NegativeCache(0L, 10);
+        cache.put("atlantis", MISSING);
+
+        assertThat(cache.get("atlantis")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
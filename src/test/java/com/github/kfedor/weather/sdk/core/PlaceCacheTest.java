@@ -0,0 +1,78 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import com.github.kfedor.weather.sdk.model.Place;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PlaceCacheTest {
+
+    private static final Place HELSINKI = new Place("Helsinki", null, "FI", 60.17, 24.94);
+
+    @Test
+    void nearbyPointsShareOneResolutionAtTheCellCenter() {
+        PlaceCache cache = new PlaceCache(60_000L, 10);
+        List<Coordinates> calls = new ArrayList<>();
+
+        Optional<Place> first = cache.get(60.1699, 24.9384, point -> {
+            calls.add(point);
+            return Optional.of(HELSINKI);
+        });
+        Optional<Place> second = cache.get(60.1701, 24.9412, point -> {
+            calls.add(point);
+            return Optional.empty();
+        });
+
+        assertThat(first).contains(HELSINKI);
+        assertThat(second).contains(HELSINKI);
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0).latitude()).isCloseTo(60.17, within(1e-9));
+        assertThat(calls.get(0).longitude()).isCloseTo(24.94, within(1e-9));
+    }
+
+    @Test
+    void emptyAnswersAreRemembered() {
+        PlaceCache cache = new PlaceCache(60_000L, 10);
+        List<Coordinates> calls = new ArrayList<>();
+
+        cache.get(0.5, -30.2, point -> {
+            calls.add(point);
+            return Optional.empty();
+        });
+        Optional<Place> again = cache.get(0.5, -30.2, point -> {
+            calls.add(point);
+            return Optional.of(HELSINKI);
+        });
+
+        assertThat(again).isEmpty();
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    void expiredAndEvictedCellsAreResolvedAgain() throws Exception {
+        PlaceCache cache = new PlaceCache(20L, 1);
+        List<Coordinates> calls = new ArrayList<>();
+
+        cache.get(1, 1, point -> {
+            calls.add(point);
+            return Optional.of(HELSINKI);
+        });
+        Thread.sleep(30);
+        cache.get(1, 1, point -> {
+            calls.add(point);
+            return Optional.of(HELSINKI);
+        });
+        cache.get(-1, -1, point -> {
+            calls.add(point);
+            return Optional.empty();
+        });
+
+        assertThat(calls).hasSize(3);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -1,13 +1,17 @@
 package com.github.kfedor.weather.sdk.core;
 
+import com.github.kfedor.weather.sdk.exception.BulkheadFullException;
 import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -43,9 +47,44 @@ class PollingManagerTest {
                 RequestInfo.coordinates(59.934280, 30.335099),
                 "coordinates:59.934280;30.335099"
         );
+        verify(weatherService, times(1)).refreshGrouped(snapshot);
         verifyNoMoreInteractions(weatherService);
     }
 
+    @Test
+    void tickSkipsEntriesRefreshedThroughGroupCalls() throws Exception {
+        Map<String, RequestInfo> snapshot = new LinkedHashMap<>();
+        snapshot.put("helsinki", RequestInfo.city("Helsinki").withCityId(658225));
+        snapshot.put("oslo", RequestInfo.city("Oslo"));
+
+        when(cacheManager.snapshotRequests()).thenReturn(snapshot);
+        when(weatherService.refreshGrouped(snapshot)).thenReturn(Set.of("helsinki"));
+
+        Method tick = PollingManager.class.getDeclaredMethod("tick");
+        tick.setAccessible(true);
+        tick.invoke(pollingManager);
+
+        verify(weatherService, never()).refresh(snapshot.get("helsinki"), "helsinki");
+        verify(weatherService, times(1)).refresh(RequestInfo.city("Oslo"), "oslo");
+    }
+
+    @Test
+    void tickDefersRemainingEntriesWhenRefreshIsShed() throws Exception {
+        Map<String, RequestInfo> snapshot = new LinkedHashMap<>();
+        snapshot.put("helsinki", RequestInfo.city("Helsinki"));
+        snapshot.put("oslo", RequestInfo.city("Oslo"));
+
+        when(cacheManager.snapshotRequests()).thenReturn(snapshot);
+        doThrow(new BulkheadFullException("Background refresh deferred"))
+                .when(weatherService).refresh(RequestInfo.city("Helsinki"), "helsinki");
+
+        Method tick = PollingManager.class.getDeclaredMethod("tick");
+        tick.setAccessible(true);
+        tick.invoke(pollingManager);
+
+        verify(weatherService, never()).refresh(RequestInfo.city("Oslo"), "oslo");
+    }
+
     @Test
     void startIsIdempotentAndStopDoesNotThrow() {
         assertThatCode(() -> {
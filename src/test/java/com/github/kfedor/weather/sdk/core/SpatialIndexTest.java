@@ -0,0 +1,70 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpatialIndexTest {
+
+    @Test
+    void nearestReturnsKeysInsideRadiusNearestFirst() {
+        SpatialIndex index = new SpatialIndex();
+        index.put("far", new Coordinates(60.20, 24.94));
+        index.put("near", new Coordinates(60.171, 24.941));
+        index.put("tallinn", new Coordinates(59.437, 24.7535));
+
+        assertThat(index.nearest(60.1699, 24.9384, 5)).containsExactly("near", "far");
+        assertThat(index.nearest(60.1699, 24.9384, 0.05)).isEmpty();
+    }
+
+    @Test
+    void nearestSearchesAcrossCellsAndTheAntimeridian() {
+        SpatialIndex index = new SpatialIndex();
+        for (int i = 0; i < 500; i++) {
+            index.put("filler" + i, new Coordinates(-40 + i * 0.1, 100));
+        }
+        index.put("east", new Coordinates(-17.0, 179.99));
+
+        assertThat(index.nearest(-17.0, -179.99, 5)).containsExactly("east");
+    }
+
+    @Test
+    void putMovesAndRemoveForgetsKeys() {
+        SpatialIndex index = new SpatialIndex();
+        index.put("k", new Coordinates(10, 10));
+        index.put("k", new Coordinates(20, 20));
+
+        assertThat(index.nearest(10, 10, 50)).isEmpty();
+        assertThat(index.nearest(20, 20, 1)).containsExactly("k");
+
+        index.remove("k");
+        assertThat(index.nearest(20, 20, 1)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void concurrentUpdatesKeepIndexConsistent() {
+        SpatialIndex index = new SpatialIndex();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                executor.execute(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        String key = thread + ":" + i;
+                        index.put(key, new Coordinates(thread, i * 0.01));
+                        index.nearest(thread, i * 0.01, 2);
+                        if (i % 2 == 0) {
+                            index.remove(key);
+                        }
+                    }
+                });
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(4_000);
+        assertThat(index.nearest(3, 5.01, 0.1)).containsExactly("3:501");
+    }
+}
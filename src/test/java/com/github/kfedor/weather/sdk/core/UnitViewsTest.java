@@ -0,0 +1,48 @@
+package com.github.kfedor.weather.sdk.core;
+
+import com.github.kfedor.weather.sdk.model.Units;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnitViewsTest {
+
+    private static final WeatherResponse STANDARD = WeatherResponse.builder()
+            .temperature(new WeatherResponse.Temperature(273.15, 270.0))
+            .name("Oslo")
+            .build();
+
+    @Test
+    void returnsCanonicalResponseForStandardUnits() {
+        assertThat(new UnitViews(STANDARD).get(Units.STANDARD)).isSameAs(STANDARD);
+    }
+
+    @Test
+    void memoizesConvertedViews() {
+        UnitViews views = new UnitViews(STANDARD);
+
+        WeatherResponse metric = views.get(Units.METRIC);
+
+        assertThat(metric.temperature().temp()).isEqualTo(0.0);
+        assertThat(views.get(Units.METRIC)).isSameAs(metric);
+        assertThat(views.get(Units.IMPERIAL)).isNotSameAs(metric);
+    }
+
+    @Test
+    void toleratesMissingResponse() {
+        assertThat(new UnitViews(null).get(Units.IMPERIAL)).isNull();
+    }
+
+    @Test
+    void cacheItemStateIgnoresItsMemo() {
+        RequestInfo request = RequestInfo.city("Oslo");
+        CacheItem converted = new CacheItem(STANDARD, 1L, request);
+        CacheItem untouched = new CacheItem(STANDARD, 1L, request);
+
+        assertThat(converted.weatherResponse(Units.METRIC).temperature().temp()).isEqualTo(0.0);
+
+        assertThat(converted).isEqualTo(untouched).hasSameHashCodeAs(untouched);
+        assertThat(converted.toString()).doesNotContain("unitViews");
+    }
+}
@@ -2,8 +2,13 @@ package com.github.kfedor.weather.sdk.core;
 
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
 import com.github.kfedor.weather.sdk.http.RequestExecutor;
+import com.github.kfedor.weather.sdk.model.BoundingBox;
+import com.github.kfedor.weather.sdk.model.Coordinates;
 import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
 import java.net.URI;
+import java.util.List;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -78,6 +83,134 @@ class WeatherApiClientTest {
                 .hasMessageContaining("Malformed JSON");
     }
 
+    @Test
+    void fetchCurrentDecodesDirectlyIntoSdkModel() throws Exception {
+        String json = """
+            {
+              "coord":{"lon":24.9384,"lat":60.1699},
+              "weather":[{"id":803,"main":"Clouds","description":"broken clouds","icon":"04d"}],
+              "main":{"temp":280.15,"feels_like":278.5,"pressure":1012},
+              "wind":{"speed":3.6,"deg":200},
+              "visibility":10000,
+              "dt":1675744800,
+              "sys":{"country":"FI","sunrise":1675751262,"sunset":1675787560},
+              "timezone":7200,
+              "name":"Helsinki"
+            }
+            """;
+        when(requestExecutor.get(any(URI.class))).thenReturn(json);
+
+        WeatherResponse response = weatherApiClient.fetchCurrent(60.1699, 24.9384, false).response();
+
+        assertThat(response.name()).isEqualTo("Helsinki");
+        assertThat(response.weather().description()).isEqualTo("broken clouds");
+        assertThat(response.temperature().feelsLike()).isCloseTo(278.5, within(1e-6));
+        assertThat(response.sys().sunset()).isEqualTo(1675787560L);
+        assertThat(response.timezone()).isEqualTo(7200);
+        assertThat(weatherApiClient.fetchCurrent(60.1699, 24.9384, false).details()).isNull();
+    }
+
+    @Test
+    void fetchCurrentWithDetailsKeepsPayloadUndecoded() throws Exception {
+        when(requestExecutor.get(any(URI.class))).thenReturn(
+                "{\"main\":{\"temp\":280.15,\"pressure\":1012},\"name\":\"Helsinki\"}");
+
+        WeatherApiClient.Fetched fetched = weatherApiClient.fetchCurrent(60.1699, 24.9384, true);
+
+        assertThat(fetched.response().name()).isEqualTo("Helsinki");
+        assertThat(fetched.details().isDecoded()).isFalse();
+        assertThat(fetched.details().pressure()).isEqualTo(1012);
+    }
+
+    @Test
+    void groupFetchesAllCitiesInOneCall() throws Exception {
+        when(requestExecutor.get(any(URI.class))).thenReturn("""
+                {"cnt":2,"list":[{"id":658225,"main":{"temp":280.0},"name":"Helsinki"},
+                                 {"id":3143244,"main":{"temp":275.0,"humidity":70},"name":"Oslo"}]}""");
+
+        List<WeatherApiClient.Fetched> cities = weatherApiClient.group(List.of(658225L, 3143244L), true);
+
+        ArgumentCaptor<URI> uri = ArgumentCaptor.forClass(URI.class);
+        verify(requestExecutor).get(uri.capture());
+        assertThat(uri.getValue().getPath()).isEqualTo("/data/2.5/group");
+        assertThat(uri.getValue().getQuery()).contains("id=658225,3143244");
+        assertThat(cities).extracting(WeatherApiClient.Fetched::cityId).containsExactly(658225L, 3143244L);
+        assertThat(cities.get(1).response().name()).isEqualTo("Oslo");
+        assertThat(cities.get(1).details().humidity()).isEqualTo(70);
+    }
+
+    @Test
+    void groupRejectsMoreThanTwentyCities() {
+        List<Long> ids = LongStream.rangeClosed(1, 21).boxed().toList();
+
+        assertThatThrownBy(() -> weatherApiClient.group(ids, false))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("At most 20");
+    }
+
+    @Test
+    void findRequestsNearestStations() throws Exception {
+        when(requestExecutor.get(any(URI.class))).thenReturn("""
+                {"cnt":1,"list":[{"id":658225,"coord":{"lat":60.1699,"lon":24.9384},"name":"Helsinki"}]}""");
+
+        List<WeatherApiClient.Fetched> stations = weatherApiClient.find(60.17, 24.94, 5, false);
+
+        ArgumentCaptor<URI> uri = ArgumentCaptor.forClass(URI.class);
+        verify(requestExecutor).get(uri.capture());
+        assertThat(uri.getValue().getPath()).isEqualTo("/data/2.5/find");
+        assertThat(uri.getValue().getQuery()).contains("lat=60.170000", "lon=24.940000", "cnt=5", "appid=TEST_KEY");
+        assertThat(stations.get(0).coordinates()).isEqualTo(new Coordinates(60.1699, 24.9384));
+        assertThat(stations.get(0).cityId()).isEqualTo(658225L);
+    }
+
+    @Test
+    void findRejectsMoreThanFiftyStations() {
+        assertThatThrownBy(() -> weatherApiClient.find(60.17, 24.94, 51, false))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("between 1 and 50");
+    }
+
+    @Test
+    void boxRequestsStationsInsideBoundingBox() throws Exception {
+        when(requestExecutor.get(any(URI.class))).thenReturn("""
+                {"cnt":1,"list":[{"id":658225,"coord":{"Lon":24.9384,"Lat":60.1699},"name":"Helsinki"}]}""");
+
+        List<WeatherApiClient.Fetched> stations = weatherApiClient.box(new BoundingBox(24.0, 60.0, 25.5, 60.5), 10, true);
+
+        ArgumentCaptor<URI> uri = ArgumentCaptor.forClass(URI.class);
+        verify(requestExecutor).get(uri.capture());
+        assertThat(uri.getValue().getPath()).isEqualTo("/data/2.5/box/city");
+        assertThat(uri.getValue().getQuery()).contains("bbox=24.000000,60.000000,25.500000,60.500000,10");
+        assertThat(stations.get(0).coordinates()).isEqualTo(new Coordinates(60.1699, 24.9384));
+        assertThat(stations.get(0).details().cityId()).isEqualTo(658225L);
+    }
+
+    @Test
+    void forecastDecodesEverySlice() throws Exception {
+        when(requestExecutor.get(any(URI.class))).thenReturn("""
+                {"cnt":2,"list":[{"dt":1675749600,"main":{"temp":280.0,"feels_like":278.0},"sys":{"pod":"d"}},
+                                 {"dt":1675760400,"main":{"temp":281.5,"feels_like":279.0},"pop":0.2}],
+                 "city":{"id":658225,"name":"Helsinki"}}""");
+
+        List<WeatherResponse> slices = weatherApiClient.forecast(60.17, 24.94);
+
+        ArgumentCaptor<URI> uri = ArgumentCaptor.forClass(URI.class);
+        verify(requestExecutor).get(uri.capture());
+        assertThat(uri.getValue().getPath()).isEqualTo("/data/2.5/forecast");
+        assertThat(slices).extracting(WeatherResponse::datetime).containsExactly(1675749600L, 1675760400L);
+        assertThat(slices.get(1).temperature().temp()).isEqualTo(281.5);
+        assertThat(slices.get(0).sys()).isNull();
+    }
+
+    @Test
+    void fetchCurrentThrowsOnMalformedJson() throws Exception {
+        when(requestExecutor.get(any(URI.class))).thenReturn("{\"main\":{\"temp\":");
+
+        assertThatThrownBy(() -> weatherApiClient.fetchCurrent(10.0, 20.0, false))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("Malformed JSON");
+    }
+
     private static org.assertj.core.data.Offset<Double> within(double delta) {
         return org.assertj.core.data.Offset.offset(delta);
     }
@@ -1,15 +1,45 @@
 package com.github.kfedor.weather.sdk.core;
 
+import com.github.kfedor.weather.sdk.exception.BulkheadFullException;
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.NotFoundException;
+import com.github.kfedor.weather.sdk.exception.ThrottledException;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import com.github.kfedor.weather.sdk.mapper.WeatherMapper;
+import com.github.kfedor.weather.sdk.model.BoundingBox;
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import com.github.kfedor.weather.sdk.model.LookupResult;
 import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.StationWeather;
+import com.github.kfedor.weather.sdk.model.Units;
+import com.github.kfedor.weather.sdk.model.WeatherDetails;
 import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -46,14 +76,19 @@ class WeatherServiceTest {
         return raw;
     }
 
+    private static WeatherApiClient.Fetched fetched(String city, double temp, double feels) {
+        return fetched(city, temp, feels, 0);
+    }
+
+    private static WeatherApiClient.Fetched fetched(String city, double temp, double feels, long cityId) {
+        return new WeatherApiClient.Fetched(WeatherMapper.toSdk(raw(city, temp, feels)), cityId, null, null);
+    }
+
     private static WeatherResponse anyMapped(String name) {
-        WeatherResponse weatherResponse = new WeatherResponse();
-        weatherResponse.setName(name);
-        WeatherResponse.Temperature t = new WeatherResponse.Temperature();
-        t.setTemp(280.0);
-        t.setFeels_like(279.0);
-        weatherResponse.setTemperature(t);
-        return weatherResponse;
+        return WeatherResponse.builder()
+                .name(name)
+                .temperature(new WeatherResponse.Temperature(280.0, 279.0))
+                .build();
     }
 
     /**
@@ -64,21 +99,21 @@ class WeatherServiceTest {
         when(geocodingClient.findFirstLocation("Helsinki"))
                 .thenReturn(Optional.of(new GeocodingClient.Location(60.1699, 24.9384)));
 
-        when(weatherApiClient.byCoordinates(60.1699, 24.9384))
-                .thenReturn(raw("Helsinki", 271.0, 270.0));
+        when(weatherApiClient.fetchCurrent(60.1699, 24.9384, false))
+                .thenReturn(fetched("Helsinki", 271.0, 270.0));
 
         WeatherResponse out = service.getByCity("Helsinki");
 
         assertThat(out).isNotNull();
-        assertThat(out.getName()).isEqualTo("Helsinki");
-        assertThat(out.getTemperature()).isNotNull();
+        assertThat(out.name()).isEqualTo("Helsinki");
+        assertThat(out.temperature()).isNotNull();
 
         CacheItem cached = cacheManager.getIfNotExpired("helsinki");
         assertThat(cached).isNotNull();
-        assertThat(cached.weatherResponse().getName()).isEqualTo("Helsinki");
+        assertThat(cached.weatherResponse().name()).isEqualTo("Helsinki");
 
         verify(geocodingClient, times(1)).findFirstLocation("Helsinki");
-        verify(weatherApiClient, times(1)).byCoordinates(60.1699, 24.9384);
+        verify(weatherApiClient, times(1)).fetchCurrent(60.1699, 24.9384, false);
     }
 
     /**
@@ -89,11 +124,109 @@ class WeatherServiceTest {
         cacheManager.put("paris", anyMapped("Paris"), RequestInfo.city("Paris"));
 
         WeatherResponse out = service.getByCity("Paris");
-        assertThat(out.getName()).isEqualTo("Paris");
+        assertThat(out.name()).isEqualTo("Paris");
 
         verifyNoInteractions(geocodingClient, weatherApiClient);
     }
 
+    /**
+     * Cached responses are immutable and handed out as the same instance, without copying.
+     */
+    @Test
+    void cachedResponseIsSharedAcrossCallers() {
+        WeatherResponse cachedResponse = anyMapped("Vienna");
+        cacheManager.put("vienna", cachedResponse, RequestInfo.city("Vienna"));
+
+        WeatherResponse first = service.getByCity("Vienna");
+        WeatherResponse second = service.getByCity(" vienna ");
+
+        assertThat(first).isSameAs(cachedResponse).isSameAs(second);
+    }
+
+    /**
+     * JSON retained at fetch time is served on cache hits without re-serialization.
+     */
+    @Test
+    void getJsonByCoordinatesServesRetainedBytes() {
+        CacheManager retaining = new CacheManager(60_000L, 3, true);
+        WeatherService jsonService = new WeatherService(weatherApiClient, geocodingClient, retaining);
+        when(weatherApiClient.fetchCurrent(35.0, 139.0, false)).thenReturn(fetched("Tokyo", 285.0, 283.0));
+
+        ByteBuffer fetched = jsonService.getJsonByCoordinates(35.0, 139.0);
+        ByteBuffer hit = jsonService.getJsonByCoordinates(35.0, 139.0);
+
+        String json = StandardCharsets.UTF_8.decode(fetched).toString();
+        assertThat(json).contains("\"name\":\"Tokyo\"");
+        assertThat(StandardCharsets.UTF_8.decode(hit).toString()).isEqualTo(json);
+        verify(weatherApiClient, times(1)).fetchCurrent(35.0, 139.0, false);
+    }
+
+    /**
+     * Every unit system is served from one cached entry fetched once.
+     */
+    @Test
+    void getByCityInOtherUnitsReusesCanonicalEntry() {
+        when(geocodingClient.findFirstLocation("Oslo"))
+                .thenReturn(Optional.of(new GeocodingClient.Location(59.91, 10.75)));
+        when(weatherApiClient.fetchCurrent(59.91, 10.75, false)).thenReturn(fetched("Oslo", 273.15, 270.15));
+
+        WeatherResponse standard = service.getByCity("Oslo");
+        WeatherResponse metric = service.getByCity("Oslo", Units.METRIC);
+        WeatherResponse imperial = service.getByCity("Oslo", Units.IMPERIAL);
+
+        assertThat(standard.temperature().temp()).isEqualTo(273.15);
+        assertThat(metric.temperature().temp()).isEqualTo(0.0);
+        assertThat(imperial.temperature().feelsLike()).isEqualTo(26.6);
+        assertThat(service.getByCity("Oslo", Units.METRIC)).isSameAs(metric);
+        verify(weatherApiClient, times(1)).fetchCurrent(59.91, 10.75, false);
+    }
+
+    /**
+     * With details retained, both views come from a single provider call.
+     */
+    @Test
+    void getDetailsByCoordinatesSharesEntryWithResponse() {
+        WeatherService detailsService =
+                new WeatherService(weatherApiClient, geocodingClient, cacheManager, new Bulkhead(), true);
+        WeatherDetails details = new WeatherDetails(
+                "{\"main\":{\"humidity\":64}}".getBytes(StandardCharsets.UTF_8));
+        when(weatherApiClient.fetchCurrent(35.0, 139.0, true)).thenReturn(
+                new WeatherApiClient.Fetched(fetched("Tokyo", 285.0, 283.0).response(), 0, details, null));
+
+        WeatherResponse response = detailsService.getByCoordinates(35.0, 139.0);
+        WeatherDetails served = detailsService.getDetailsByCoordinates(35.0, 139.0);
+
+        assertThat(response.name()).isEqualTo("Tokyo");
+        assertThat(served).isSameAs(details);
+        assertThat(served.humidity()).isEqualTo(64);
+        verify(weatherApiClient, times(1)).fetchCurrent(35.0, 139.0, true);
+    }
+
+    /**
+     * Details are opt-in; without them the request fails instead of calling the provider twice.
+     */
+    @Test
+    void getDetailsByCityThrowsWhenNotRetained() {
+        cacheManager.put("paris", anyMapped("Paris"), RequestInfo.city("Paris"));
+
+        assertThatThrownBy(() -> service.getDetailsByCity("Paris"))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("not retained");
+    }
+
+    /**
+     * Without retained JSON the cached response is serialized on demand.
+     */
+    @Test
+    void getJsonByCitySerializesWhenNotRetained() {
+        cacheManager.put("paris", anyMapped("Paris"), RequestInfo.city("Paris"));
+
+        ByteBuffer json = service.getJsonByCity("Paris");
+
+        assertThat(json.isReadOnly()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(json).toString()).contains("\"name\":\"Paris\"");
+    }
+
     /**
      * City not found by geocoding -> exception thrown.
      */
@@ -102,6 +235,7 @@ class WeatherServiceTest {
         when(geocodingClient.findFirstLocation("Atlantis")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> service.getByCity("Atlantis"))
+                .isInstanceOf(NotFoundException.class)
                 .isInstanceOf(WeatherSdkException.class)
                 .hasMessageContaining("City not found");
 
@@ -109,6 +243,439 @@ class WeatherServiceTest {
         verifyNoInteractions(weatherApiClient);
     }
 
+    /**
+     * Batch: duplicates collapse, hits come from cache, failures stay per name.
+     */
+    @Test
+    void getByCitiesDeduplicatesAndReportsPerNameResults() {
+        cacheManager.put("paris", anyMapped("Paris"), RequestInfo.city("Paris"));
+        when(geocodingClient.findFirstLocation("Oslo"))
+                .thenReturn(Optional.of(new GeocodingClient.Location(59.91, 10.75)));
+        when(geocodingClient.findFirstLocation("Atlantis")).thenReturn(Optional.empty());
+        when(weatherApiClient.fetchCurrent(59.91, 10.75, false)).thenReturn(fetched("Oslo", 273.15, 270.15));
+
+        Map<String, LookupResult> results =
+                service.getByCities(Arrays.asList("Paris", "Oslo", " oslo", "Atlantis", "", "Paris"));
+
+        assertThat(results.keySet()).containsExactly("Paris", "Oslo", " oslo", "Atlantis", "");
+        assertThat(results.get("Paris").orElseThrow().name()).isEqualTo("Paris");
+        assertThat(results.get("Oslo").response()).isSameAs(results.get(" oslo").response());
+        assertThat(results.get("Atlantis").error()).isInstanceOf(NotFoundException.class);
+        assertThat(results.get("").error()).hasMessage("City must not be empty");
+        verify(weatherApiClient, times(1)).fetchCurrent(59.91, 10.75, false);
+        verify(geocodingClient, times(0)).findFirstLocation("Paris");
+    }
+
+    /**
+     * Batch: a null location fails on its own instead of aborting the batch.
+     */
+    @Test
+    void getByCoordinatesReportsNullLocationPerItem() {
+        when(weatherApiClient.fetchCurrent(59.91, 10.75, false)).thenReturn(fetched("Oslo", 273.15, 270.15));
+
+        Map<Coordinates, LookupResult> results =
+                service.getByCoordinates(Arrays.asList(new Coordinates(59.91, 10.75), null));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(new Coordinates(59.91, 10.75)).orElseThrow().name()).isEqualTo("Oslo");
+        assertThat(results.get(null).error())
+                .hasMessage("Location must not be null")
+                .extracting(ex -> ((WeatherSdkException) ex).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+    }
+
+    /**
+     * Batch misses are fetched concurrently, but never above the batch cap.
+     */
+    @Test
+    void getByCoordinatesFetchesMissesConcurrentlyUnderCap() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(weatherApiClient.fetchCurrent(anyDouble(), anyDouble(), eq(false))).thenAnswer(invocation -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return fetched("Somewhere", 280.0, 279.0);
+        });
+        List<Coordinates> locations = new ArrayList<>();
+        for (int i = 0; i < 48; i++) {
+            locations.add(new Coordinates(i, i));
+        }
+        WeatherService wide = new WeatherService(weatherApiClient, geocodingClient, new CacheManager(60_000L, 100));
+
+        Map<Coordinates, LookupResult> results = wide.getByCoordinates(locations);
+
+        assertThat(results).hasSize(48);
+        assertThat(results.values()).allMatch(LookupResult::isSuccess);
+        assertThat(peak.get()).isBetween(2, WeatherService.BATCH_PARALLELISM);
+    }
+
+    /**
+     * The provider city id of a fetched entry is remembered for group refreshes.
+     */
+    @Test
+    void fetchRemembersProviderCityId() {
+        when(weatherApiClient.fetchCurrent(35.0, 139.0, false)).thenReturn(fetched("Tokyo", 285.0, 283.0, 1850147));
+
+        service.getByCoordinates(35.0, 139.0);
+
+        String key = WeatherService.Keys.coordinates(35.0, 139.0);
+        assertThat(cacheManager.getStale(key).requestInfo().cityId()).isEqualTo(1850147L);
+    }
+
+    /**
+     * Entries with known city ids are refreshed in one group call; the rest are left to single refreshes.
+     */
+    @Test
+    void refreshGroupedPacksKnownCityIds() {
+        Map<String, RequestInfo> entries = new LinkedHashMap<>();
+        entries.put("helsinki", RequestInfo.city("Helsinki").withCityId(658225));
+        entries.put("oslo", RequestInfo.city("Oslo").withCityId(3143244));
+        entries.put("rome", RequestInfo.city("Rome"));
+        when(weatherApiClient.group(List.of(658225L, 3143244L), false)).thenReturn(List.of(
+                fetched("Helsinki", 271.0, 270.0, 658225), fetched("Oslo", 273.0, 272.0, 3143244)));
+
+        Set<String> refreshed = service.refreshGrouped(entries);
+
+        assertThat(refreshed).containsExactlyInAnyOrder("helsinki", "oslo");
+        assertThat(cacheManager.getIfNotExpired("oslo").weatherResponse().name()).isEqualTo("Oslo");
+        verify(weatherApiClient, times(1)).group(List.of(658225L, 3143244L), false);
+        verifyNoInteractions(geocodingClient);
+    }
+
+    /**
+     * Batch misses of expired entries with known city ids go through one group call.
+     */
+    @Test
+    void getByCitiesRefetchesExpiredEntriesThroughGroupCall() throws Exception {
+        CacheManager shortLived = new CacheManager(10L, 10);
+        WeatherService batchService = new WeatherService(weatherApiClient, geocodingClient, shortLived);
+        shortLived.put("helsinki", anyMapped("Helsinki"), RequestInfo.city("Helsinki").withCityId(658225));
+        shortLived.put("oslo", anyMapped("Oslo"), RequestInfo.city("Oslo").withCityId(3143244));
+        Thread.sleep(20);
+        when(weatherApiClient.group(List.of(658225L, 3143244L), false)).thenReturn(List.of(
+                fetched("Helsinki", 271.0, 270.0, 658225), fetched("Oslo", 273.0, 272.0, 3143244)));
+
+        Map<String, LookupResult> results = batchService.getByCities(List.of("Helsinki", "Oslo"));
+
+        assertThat(results.get("Helsinki").orElseThrow().temperature().temp()).isEqualTo(271.0);
+        assertThat(results.get("Oslo").orElseThrow().temperature().temp()).isEqualTo(273.0);
+        verify(weatherApiClient, times(1)).group(List.of(658225L, 3143244L), false);
+        verifyNoInteractions(geocodingClient);
+    }
+
+    /**
+     * Each station of an area query is cached under its coordinates; a later point lookup is a cache hit.
+     */
+    @Test
+    void getInBoxCachesEveryStationByCoordinates() {
+        BoundingBox box = new BoundingBox(24.0, 60.0, 25.5, 60.5);
+        CacheManager roomy = new CacheManager(60_000L, 10);
+        WeatherService areaService = new WeatherService(weatherApiClient, geocodingClient, roomy);
+        when(weatherApiClient.box(box, 10, false)).thenReturn(List.of(
+                station("Helsinki", 658225, 60.1699, 24.9384), station("Espoo", 660129, 60.2052, 24.6522)));
+
+        List<StationWeather> stations = areaService.getInBox(box, 10);
+        WeatherResponse espoo = areaService.getByCoordinates(60.2052, 24.6522);
+
+        assertThat(stations).extracting(s -> s.weather().name()).containsExactly("Helsinki", "Espoo");
+        assertThat(espoo).isSameAs(stations.get(1).weather());
+        assertThat(roomy.getIfNotExpired(WeatherService.Keys.coordinates(60.1699, 24.9384)).requestInfo().cityId())
+                .isEqualTo(658225L);
+        verify(weatherApiClient, never()).fetchCurrent(anyDouble(), anyDouble(), eq(false));
+    }
+
+    /**
+     * The radius is applied locally to the nearest stations the provider returns.
+     */
+    @Test
+    void getWithinDropsStationsOutsideRadius() {
+        when(weatherApiClient.find(60.17, 24.94, 10, false)).thenReturn(List.of(
+                station("Helsinki", 658225, 60.1699, 24.9384), station("Tallinn", 588409, 59.437, 24.7535)));
+
+        List<StationWeather> stations = service.getWithin(60.17, 24.94, 50, 10);
+
+        assertThat(stations).extracting(s -> s.weather().name()).containsExactly("Helsinki");
+        assertThat(cacheManager.getIfNotExpired(WeatherService.Keys.coordinates(59.437, 24.7535))).isNull();
+    }
+
+    @Test
+    void getWithinRejectsNonPositiveRadius() {
+        assertThatThrownBy(() -> service.getWithin(60.17, 24.94, 0, 10))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("Radius");
+        verifyNoInteractions(weatherApiClient);
+    }
+
+    private static WeatherApiClient.Fetched station(String city, long cityId, double latitude, double longitude) {
+        return new WeatherApiClient.Fetched(WeatherMapper.toSdk(raw(city, 280.0, 279.0)), cityId, null,
+                new Coordinates(latitude, longitude));
+    }
+
+    /**
+     * A fresh observation within the tolerance is served instead of fetching the exact point.
+     */
+    @Test
+    void getByCoordinatesWithToleranceServesNearbyObservation() {
+        when(weatherApiClient.fetchCurrent(60.1699, 24.9384, false)).thenReturn(fetched("Helsinki", 271.0, 270.0));
+        WeatherResponse helsinki = service.getByCoordinates(60.1699, 24.9384);
+
+        WeatherResponse nearby = service.getByCoordinates(60.1720, 24.9410, 0.5);
+
+        assertThat(nearby).isSameAs(helsinki);
+        verify(weatherApiClient, times(1)).fetchCurrent(anyDouble(), anyDouble(), eq(false));
+    }
+
+    @Test
+    void getByCoordinatesWithToleranceFetchesWhenNothingNearby() {
+        when(weatherApiClient.fetchCurrent(60.1699, 24.9384, false)).thenReturn(fetched("Helsinki", 271.0, 270.0));
+        when(weatherApiClient.fetchCurrent(59.437, 24.7535, false)).thenReturn(fetched("Tallinn", 272.0, 271.0));
+        service.getByCoordinates(60.1699, 24.9384);
+
+        WeatherResponse tallinn = service.getByCoordinates(59.437, 24.7535, 5);
+
+        assertThat(tallinn.name()).isEqualTo("Tallinn");
+        assertThatThrownBy(() -> service.getByCoordinates(59.437, 24.7535, -1))
+                .isInstanceOf(WeatherSdkException.class);
+    }
+
+    /**
+     * Successfully looked-up cities feed autocomplete; unknown ones do not.
+     */
+    @Test
+    void suggestCitiesOffersLookedUpAndPreloadedNames() {
+        when(geocodingClient.findFirstLocation("Helsinki")).thenReturn(Optional.of(new GeocodingClient.Location(60.17, 24.94)));
+        when(geocodingClient.findFirstLocation("Helsingor")).thenReturn(Optional.empty());
+        when(weatherApiClient.fetchCurrent(60.17, 24.94, false)).thenReturn(fetched("Helsinki", 271.0, 270.0));
+        service.preloadCities(List.of("Helsingborg"));
+
+        service.getByCity("Helsinki");
+        assertThatThrownBy(() -> service.getByCity("Helsingor")).isInstanceOf(NotFoundException.class);
+
+        assertThat(service.suggestCities("hel", 5)).containsExactly("Helsinki", "Helsingborg");
+        assertThatThrownBy(() -> service.suggestCities("hel", 0)).isInstanceOf(WeatherSdkException.class);
+    }
+
+    /**
+     * Autocomplete keeps the provider's spelling and counts cache hits of single and batch lookups alike.
+     */
+    @Test
+    void suggestCitiesRecordsProviderNamesForEveryLookup() {
+        when(geocodingClient.findFirstLocation(any())).thenReturn(Optional.of(new GeocodingClient.Location(60.17, 24.94)));
+        when(weatherApiClient.fetchCurrent(60.17, 24.94, false)).thenReturn(fetched("Helsinki", 271.0, 270.0));
+        when(geocodingClient.findFirstLocation("Helsingborg")).thenReturn(Optional.of(new GeocodingClient.Location(56.05, 12.69)));
+        when(weatherApiClient.fetchCurrent(56.05, 12.69, false)).thenReturn(fetched("Helsingborg", 275.0, 274.0));
+
+        service.getByCity("HELSINKI ");
+        service.getByCity("Helsingborg");
+        service.getByCities(List.of("helsinki", "Helsingborg"));
+        service.getByCities(List.of("Helsinki"));
+
+        assertThat(service.suggestCities("hel", 5)).containsExactly("Helsinki", "Helsingborg");
+        verify(weatherApiClient, times(1)).fetchCurrent(60.17, 24.94, false);
+    }
+
+    /**
+     * Accent, case and whitespace variants of a city share one cache entry and one fetch.
+     */
+    @Test
+    void getByCityVariantsShareOneEntry() {
+        when(geocodingClient.findFirstLocation("São Paulo")).thenReturn(Optional.of(new GeocodingClient.Location(-23.55, -46.63)));
+        when(weatherApiClient.fetchCurrent(-23.55, -46.63, false)).thenReturn(fetched("São Paulo", 296.0, 297.0));
+
+        WeatherResponse first = service.getByCity("São Paulo");
+
+        assertThat(service.getByCity("sao  paulo")).isSameAs(first);
+        assertThat(service.getByCity("SÃO PAULO")).isSameAs(first);
+        verify(weatherApiClient, times(1)).fetchCurrent(anyDouble(), anyDouble(), eq(false));
+    }
+
+    /**
+     * A stored forecast serves any window without geocoding or another provider call.
+     */
+    @Test
+    void getForecastByCityServesWindowsFromStoredSlices() {
+        long now = System.currentTimeMillis() / 1000;
+        List<WeatherResponse> slices = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            slices.add(WeatherResponse.builder().datetime(now - 3600 + i * 10_800L).build());
+        }
+        when(geocodingClient.findFirstLocation("Oslo")).thenReturn(Optional.of(new GeocodingClient.Location(59.91, 10.75)));
+        when(weatherApiClient.forecast(59.91, 10.75)).thenReturn(slices);
+
+        List<WeatherResponse> day = service.getForecastByCity("Oslo", 24);
+        List<WeatherResponse> sixHours = service.getForecastByCity("oslo", 6);
+
+        assertThat(day).hasSize(9).first().isSameAs(slices.get(0));
+        assertThat(sixHours).containsExactlyElementsOf(slices.subList(0, 3));
+        verify(geocodingClient, times(1)).findFirstLocation(any());
+        verify(weatherApiClient, times(1)).forecast(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void getForecastRejectsHoursBeyondFiveDays() {
+        assertThatThrownBy(() -> service.getForecastByCoordinates(59.91, 10.75, 121))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("between 1 and 120");
+        verifyNoInteractions(weatherApiClient);
+    }
+
+    /**
+     * A tolerant caller is served an entry the TTL considers expired; a strict one triggers a refetch.
+     */
+    @Test
+    void getByCityHonoursCallerMaxAge() throws Exception {
+        CacheManager shortLived = new CacheManager(10L, 10);
+        WeatherService tolerant = new WeatherService(weatherApiClient, geocodingClient, shortLived);
+        when(geocodingClient.findFirstLocation("Oslo")).thenReturn(Optional.of(new GeocodingClient.Location(59.91, 10.75)));
+        when(weatherApiClient.fetchCurrent(59.91, 10.75, false))
+                .thenReturn(fetched("Oslo", 273.0, 272.0), fetched("Oslo", 275.0, 274.0));
+        WeatherResponse first = tolerant.getByCity("Oslo");
+        Thread.sleep(20);
+
+        assertThat(tolerant.getByCity("Oslo", Duration.ofMinutes(30))).isSameAs(first);
+        verify(weatherApiClient, times(1)).fetchCurrent(anyDouble(), anyDouble(), eq(false));
+
+        assertThat(tolerant.getByCity("Oslo", Duration.ZERO).temperature().temp()).isEqualTo(275.0);
+        verify(weatherApiClient, times(2)).fetchCurrent(anyDouble(), anyDouble(), eq(false));
+    }
+
+    @Test
+    void getByCoordinatesRejectsNegativeMaxAge() {
+        assertThatThrownBy(() -> service.getByCoordinates(59.91, 10.75, Duration.ofSeconds(-1)))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessage("Maximum age must not be negative");
+        assertThatThrownBy(() -> service.getByCoordinates(59.91, 10.75, (Duration) null))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessage("Maximum age must not be null");
+        verifyNoInteractions(weatherApiClient);
+    }
+
+    /**
+     * A duration too long for milliseconds is treated as unbounded instead of overflowing.
+     */
+    @Test
+    void getByCoordinatesAcceptsUnboundedMaxAge() {
+        when(weatherApiClient.fetchCurrent(59.91, 10.75, false)).thenReturn(fetched("Oslo", 273.0, 272.0));
+        WeatherResponse first = service.getByCoordinates(59.91, 10.75);
+
+        assertThat(service.getByCoordinates(59.91, 10.75, ChronoUnit.FOREVER.getDuration())).isSameAs(first);
+        verify(weatherApiClient, times(1)).fetchCurrent(59.91, 10.75, false);
+    }
+
+    /**
+     * While throttled, a strict caller gets the throttling error rather than an entry older than its bound.
+     */
+    @Test
+    void getByCoordinatesKeepsMaxAgeWhileThrottled() throws Exception {
+        String key = WeatherService.Keys.coordinates(10.0, 20.0);
+        cacheManager.put(key, anyMapped("Stale"), RequestInfo.coordinates(10.0, 20.0));
+        Thread.sleep(5);
+        when(weatherApiClient.fetchCurrent(10.0, 20.0, false))
+                .thenThrow(new ThrottledException("Too many requests (HTTP 429)", 1_000L));
+
+        assertThatThrownBy(() -> service.getByCoordinates(10.0, 20.0, Duration.ZERO))
+                .isInstanceOf(ThrottledException.class);
+        assertThatThrownBy(() -> service.getByCoordinates(10.0, 20.0, Duration.ofMillis(1)))
+                .isInstanceOf(ThrottledException.class);
+        assertThat(service.getByCoordinates(10.0, 20.0).name()).isEqualTo("Stale");
+    }
+
+    /**
+     * Unknown city is remembered: the repeated lookup makes no provider call.
+     */
+    @Test
+    void getByCityRemembersUnknownCity() {
+        when(geocodingClient.findFirstLocation("Atlantis")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getByCity("Atlantis")).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> service.getByCity(" atlantis "))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("City not found: Atlantis");
+
+        verify(geocodingClient, times(1)).findFirstLocation("Atlantis");
+        verifyNoInteractions(weatherApiClient);
+    }
+
+    /**
+     * Coordinates answered with 404 are remembered as well.
+     */
+    @Test
+    void getByCoordinatesRemembersNotFound() {
+        when(weatherApiClient.fetchCurrent(1.0, 2.0, false)).thenThrow(NotFoundException.HTTP_404);
+
+        assertThatThrownBy(() -> service.getByCoordinates(1.0, 2.0)).isSameAs(NotFoundException.HTTP_404);
+        assertThatThrownBy(() -> service.getByCoordinates(1.0, 2.0)).isSameAs(NotFoundException.HTTP_404);
+
+        verify(weatherApiClient, times(1)).fetchCurrent(1.0, 2.0, false);
+    }
+
+    /**
+     * Polling refreshes are shed, without a provider call, while interactive lookups hold all capacity.
+     */
+    @Test
+    void refreshIsShedUnderInteractiveLoad() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        WeatherService busy = new WeatherService(weatherApiClient, geocodingClient, cacheManager, bulkhead);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(weatherApiClient.fetchCurrent(59.91, 10.75, false)).thenAnswer(invocation -> {
+            inside.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return fetched("Oslo", 273.0, 272.0);
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> busy.getByCoordinates(59.91, 10.75));
+            assertThat(inside.await(1, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> busy.refresh(RequestInfo.coordinates(10.0, 20.0), "latitude=10;longitude=20"))
+                    .isInstanceOf(BulkheadFullException.class);
+            assertThatThrownBy(() -> busy.refreshGrouped(Map.of("oslo", RequestInfo.city("Oslo").withCityId(3143244))))
+                    .isInstanceOf(BulkheadFullException.class);
+            assertThat(bulkhead.shedCount()).isEqualTo(2);
+            verify(weatherApiClient, never()).fetchCurrent(10.0, 20.0, false);
+            verify(weatherApiClient, never()).group(any(), eq(false));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Provider throttles the key -> expired cached entry is served instead of failing.
+     */
+    @Test
+    void getByCoordinatesServesStaleEntryWhileThrottled() throws Exception {
+        CacheManager shortLived = new CacheManager(1L, 3);
+        WeatherService throttledService = new WeatherService(weatherApiClient, geocodingClient, shortLived);
+        String key = WeatherService.Keys.coordinates(10.0, 20.0);
+        shortLived.put(key, anyMapped("Stale"), RequestInfo.coordinates(10.0, 20.0));
+        Thread.sleep(5);
+
+        when(weatherApiClient.fetchCurrent(10.0, 20.0, false))
+                .thenThrow(new ThrottledException("Too many requests (HTTP 429)", 1_000L));
+
+        WeatherResponse out = throttledService.getByCoordinates(10.0, 20.0);
+
+        assertThat(out.name()).isEqualTo("Stale");
+    }
+
+    /**
+     * Provider throttles the key and nothing is cached -> throttling error is propagated.
+     */
+    @Test
+    void getByCityRethrowsThrottlingWhenNothingCached() {
+        when(geocodingClient.findFirstLocation("Oslo"))
+                .thenThrow(new ThrottledException("Too many requests (HTTP 429)", 1_000L));
+
+        assertThatThrownBy(() -> service.getByCity("Oslo"))
+                .isInstanceOf(ThrottledException.class);
+    }
+
     /**
      * Happy path by coordinates -> fetch weather and cache using coordinates key.
      */
@@ -117,18 +684,18 @@ class WeatherServiceTest {
         double latitude = 59.934280;
         double longitude = 30.335099;
 
-        when(weatherApiClient.byCoordinates(latitude, longitude))
-                .thenReturn(raw("Saint Petersburg", 270.0, 268.0));
+        when(weatherApiClient.fetchCurrent(latitude, longitude, false))
+                .thenReturn(fetched("Saint Petersburg", 270.0, 268.0));
 
         WeatherResponse out = service.getByCoordinates(latitude, longitude);
 
         assertThat(out).isNotNull();
-        assertThat(out.getName()).isEqualTo("Saint Petersburg");
+        assertThat(out.name()).isEqualTo("Saint Petersburg");
 
         String expectedKey = WeatherService.Keys.coordinates(latitude, longitude);
         CacheItem cached = cacheManager.getIfNotExpired(expectedKey);
         assertThat(cached).isNotNull();
-        assertThat(cached.weatherResponse().getName()).isEqualTo("Saint Petersburg");
+        assertThat(cached.weatherResponse().name()).isEqualTo("Saint Petersburg");
     }
 
     /**
@@ -141,32 +708,32 @@ class WeatherServiceTest {
 
         when(geocodingClient.findFirstLocation("London"))
                 .thenReturn(Optional.of(new GeocodingClient.Location(51.5074, -0.1278)));
-        when(weatherApiClient.byCoordinates(51.5074, -0.1278))
-                .thenReturn(raw("London", 281.0, 279.0));
+        when(weatherApiClient.fetchCurrent(51.5074, -0.1278, false))
+                .thenReturn(fetched("London", 281.0, 279.0));
 
         service.refresh(RequestInfo.city("London"), cacheKey);
 
         CacheItem updated = cacheManager.getIfNotExpired(cacheKey);
         assertThat(updated).isNotNull();
-        assertThat(updated.weatherResponse().getName()).isEqualTo("London");
+        assertThat(updated.weatherResponse().name()).isEqualTo("London");
     }
 
     /**
-     * refresh: COORDINATES path -> direct byCoordinates() without geocoding.
+     * refresh: COORDINATES path -> direct fetchCurrent() without geocoding.
      */
     @Test
     void refreshUpdatesCachedEntryForCoordinatesRequest() {
         String cacheKey = WeatherService.Keys.coordinates(35.0, 139.0);
         cacheManager.put(cacheKey, anyMapped("OldTokyo"), RequestInfo.coordinates(35.0, 139.0));
 
-        when(weatherApiClient.byCoordinates(35.0, 139.0))
-                .thenReturn(raw("Tokyo", 285.0, 283.0));
+        when(weatherApiClient.fetchCurrent(35.0, 139.0, false))
+                .thenReturn(fetched("Tokyo", 285.0, 283.0));
 
         service.refresh(RequestInfo.coordinates(35.0, 139.0), cacheKey);
 
         CacheItem updated = cacheManager.getIfNotExpired(cacheKey);
         assertThat(updated).isNotNull();
-        assertThat(updated.weatherResponse().getName()).isEqualTo("Tokyo");
+        assertThat(updated.weatherResponse().name()).isEqualTo("Tokyo");
     }
 
     /**
@@ -0,0 +1,46 @@
+package com.github.kfedor.weather.sdk.exception;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherSdkExceptionTest {
+
+    @Test
+    void plainExceptionsKeepStackTraceAndGeneralCode() {
+        WeatherSdkException ex = new WeatherSdkException("boom");
+
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.GENERAL);
+        assertThat(ex.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void expectedFailuresAreStackless() {
+        assertThat(new NotFoundException("City not found: Atlantis").getStackTrace()).isEmpty();
+        assertThat(new ThrottledException("Too many requests", 1_000).getStackTrace()).isEmpty();
+        assertThat(new UpstreamException(502).getStackTrace()).isEmpty();
+        assertThat(UnauthorizedException.forStatus(401).getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void sharedInstancesIgnoreSuppressedExceptions() {
+        NotFoundException shared = NotFoundException.HTTP_404;
+
+        shared.addSuppressed(new IllegalStateException("other"));
+
+        assertThat(shared.getSuppressed()).isEmpty();
+        assertThat(UnauthorizedException.forStatus(403)).isSameAs(UnauthorizedException.forStatus(403));
+        assertThat(UnauthorizedException.forStatus(403).getMessage()).contains("HTTP 403");
+    }
+
+    @Test
+    void unexpectedFailuresKeepTheirCause() {
+        IOException cause = new IOException("reset");
+        NetworkException ex = new NetworkException("Network error while fetching weather", cause);
+
+        assertThat(ex.getCode()).isEqualTo(ErrorCode.NETWORK);
+        assertThat(ex.getCause()).isSameAs(cause);
+        assertThat(new MalformedResponseException("Empty provider response").getCode()).isEqualTo(ErrorCode.PARSE);
+    }
+}
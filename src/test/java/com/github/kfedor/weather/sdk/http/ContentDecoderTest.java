@@ -0,0 +1,56 @@
+package com.github.kfedor.weather.sdk.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentDecoderTest {
+
+    private static final String JSON = "{\"name\":\"São Paulo\",\"main\":{\"temp\":296.1}}";
+
+    @Test
+    void returnsPlainBodyWhenNoEncodingGiven() throws Exception {
+        byte[] body = JSON.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(ContentDecoder.decode(body, null)).isEqualTo(JSON);
+        assertThat(ContentDecoder.decode(body, "identity")).isEqualTo(JSON);
+    }
+
+    @Test
+    void decodesGzip() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(ContentDecoder.decode(out.toByteArray(), "GZIP")).isEqualTo(JSON);
+    }
+
+    @Test
+    void decodesZlibWrappedAndRawDeflate() throws Exception {
+        assertThat(ContentDecoder.decode(deflate(false), "deflate")).isEqualTo(JSON);
+        assertThat(ContentDecoder.decode(deflate(true), "deflate")).isEqualTo(JSON);
+    }
+
+    @Test
+    void rejectsUnsupportedEncoding() {
+        assertThatThrownBy(() -> ContentDecoder.decode(new byte[0], "br"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("br");
+    }
+
+    private static byte[] deflate(boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+            deflater.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
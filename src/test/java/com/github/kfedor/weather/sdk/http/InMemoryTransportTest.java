@@ -0,0 +1,86 @@
+package com.github.kfedor.weather.sdk.http;
+
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryTransportTest {
+
+    @Test
+    void servesCannedResponseForRegisteredPath() throws Exception {
+        InMemoryTransport transport = new InMemoryTransport(InMemoryTransport.Latency.none())
+                .route("/geo/1.0/direct", "[{\"lat\":1.0,\"lon\":2.0}]");
+
+        String body = transport.get(URI.create("http://api.openweathermap.org/geo/1.0/direct?q=Oslo"));
+
+        assertThat(body).isEqualTo("[{\"lat\":1.0,\"lon\":2.0}]");
+        assertThat(transport.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void throwsNotFoundForUnknownPath() {
+        InMemoryTransport transport = new InMemoryTransport(InMemoryTransport.Latency.none());
+
+        assertThatThrownBy(() -> transport.get(URI.create("https://example.com/unknown")))
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessageContaining("HTTP 404");
+    }
+
+    @Test
+    void syntheticTransportGeneratesStableGeocodingAndWeather() throws Exception {
+        InMemoryTransport transport = InMemoryTransport.synthetic(InMemoryTransport.Latency.none());
+
+        String first = transport.get(URI.create(HttpConfig.GEOCODING_ENDPOINT + "?q=Helsinki"));
+        String second = transport.get(URI.create(HttpConfig.GEOCODING_ENDPOINT + "?q=helsinki"));
+        String weather = transport.get(URI.create(HttpConfig.WEATHER_ENDPOINT + "?lat=60.1&lon=24.9"));
+
+        assertThat(first).contains("\"lat\":").isEqualTo(second.replace("helsinki", "Helsinki"));
+        assertThat(weather).contains("\"main\":{\"temp\":").contains("\"name\":\"Synthetic 60.10,24.90\"");
+    }
+
+    @Test
+    void syntheticTransportAnswersGroupRequests() throws Exception {
+        InMemoryTransport transport = InMemoryTransport.synthetic(InMemoryTransport.Latency.none());
+
+        String group = transport.get(URI.create(HttpConfig.GROUP_ENDPOINT + "?id=101,202"));
+
+        assertThat(group).startsWith("{\"list\":[").contains("\"id\":101,").contains("\"id\":202,");
+    }
+
+    @Test
+    void syntheticTransportAnswersAreaRequests() throws Exception {
+        InMemoryTransport transport = InMemoryTransport.synthetic(InMemoryTransport.Latency.none());
+
+        String box = transport.get(URI.create(HttpConfig.BOX_ENDPOINT + "?bbox=24,60,25.5,60.5,10"));
+        String find = transport.get(URI.create(HttpConfig.FIND_ENDPOINT + "?lat=60.1&lon=24.9&cnt=3"));
+
+        assertThat(box.split("\"coord\"")).hasSize(10);
+        assertThat(find.split("\"coord\"")).hasSize(4);
+        assertThat(find).contains("\"name\":\"Synthetic 60.10,24.90\"");
+    }
+
+    @Test
+    void syntheticTransportAnswersForecastRequests() throws Exception {
+        InMemoryTransport transport = InMemoryTransport.synthetic(InMemoryTransport.Latency.none());
+
+        String forecast = transport.get(URI.create(HttpConfig.FORECAST_ENDPOINT + "?lat=60.1&lon=24.9"));
+
+        assertThat(forecast).startsWith("{\"cnt\":40,\"list\":[");
+        assertThat(forecast.split("\"dt\"")).hasSize(41);
+    }
+
+    @Test
+    void appliesLatencyModel() throws Exception {
+        InMemoryTransport transport = new InMemoryTransport(InMemoryTransport.Latency.fixed(Duration.ofMillis(20)))
+                .route("/ping", "{}");
+
+        long start = System.nanoTime();
+        transport.get(URI.create("https://example.com/ping"));
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+}
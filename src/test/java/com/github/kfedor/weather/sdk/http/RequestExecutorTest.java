@@ -1,17 +1,31 @@
 package com.github.kfedor.weather.sdk.http;
 
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.NotFoundException;
+import com.github.kfedor.weather.sdk.exception.ThrottledException;
+import com.github.kfedor.weather.sdk.exception.UnauthorizedException;
+import com.github.kfedor.weather.sdk.exception.UpstreamException;
 import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RequestExecutorTest {
@@ -27,9 +41,10 @@ class RequestExecutorTest {
 
     @Test
     void returnsResponseBodyWhenStatusCodeIs2xx() throws Exception {
-        HttpResponse<String> response = mock(HttpResponse.class);
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
         when(response.statusCode()).thenReturn(200);
-        when(response.body()).thenReturn("{\"ok\":true}");
+        when(response.body()).thenReturn("{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (k, v) -> true));
 
         when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
                 .thenReturn(response);
@@ -40,11 +55,32 @@ class RequestExecutorTest {
         assertThat(body).isEqualTo("{\"ok\":true}");
     }
 
+    @Test
+    void advertisesCompressionAndDecodesGzipBody() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write("{\"name\":\"Helsinki\"}".getBytes(StandardCharsets.UTF_8));
+        }
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(compressed.toByteArray());
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Content-Encoding", List.of("gzip")), (k, v) -> true));
+
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        when(httpClient.send(request.capture(), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(response);
+
+        String body = executor.get(URI.create("https://api.example.com/weather"));
+
+        assertThat(body).isEqualTo("{\"name\":\"Helsinki\"}");
+        assertThat(request.getValue().headers().firstValue("Accept-Encoding")).contains("gzip, deflate");
+    }
+
     @Test
     void throwsExceptionWhenStatusCodeIsNot2xx() throws Exception {
-        HttpResponse<String> response = mock(HttpResponse.class);
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
         when(response.statusCode()).thenReturn(404);
-        when(response.body()).thenReturn("Not found");
+        when(response.body()).thenReturn("Not found".getBytes(StandardCharsets.UTF_8));
 
         when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
                 .thenReturn(response);
@@ -56,6 +92,28 @@ class RequestExecutorTest {
                 .hasMessageContaining("HTTP 404");
     }
 
+    @Test
+    void mapsStatusCodesToTypedExceptions() throws Exception {
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(404, 401, 503);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(response);
+
+        URI uri = URI.create("https://api.example.com/weather");
+
+        assertThatThrownBy(() -> executor.get(uri))
+                .isSameAs(NotFoundException.HTTP_404)
+                .extracting("code").isEqualTo(ErrorCode.NOT_FOUND);
+        assertThatThrownBy(() -> executor.get(uri))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Unauthorized: bad API key (HTTP 401)")
+                .extracting("code").isEqualTo(ErrorCode.UNAUTHORIZED);
+        assertThatThrownBy(() -> executor.get(uri))
+                .isInstanceOf(UpstreamException.class)
+                .hasMessage("HTTP error 503 from provider")
+                .extracting("statusCode").isEqualTo(503);
+    }
+
     @Test
     void throwsExceptionWhenHttpClientFails() throws Exception {
         when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
@@ -67,4 +125,44 @@ class RequestExecutorTest {
                 .isInstanceOf(WeatherSdkException.class)
                 .hasMessageContaining("Network failure");
     }
+
+    @Test
+    void throttlesKeyUsingRetryAfterHeaderOn429() throws Exception {
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(429);
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Retry-After", List.of("30")), (k, v) -> true));
+
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(response);
+
+        URI uri = URI.create("https://api.example.com/weather");
+
+        assertThatThrownBy(() -> executor.get(uri))
+                .isInstanceOf(ThrottledException.class)
+                .hasMessageContaining("HTTP 429");
+
+        assertThat(executor.getThrottle().status().throttled()).isTrue();
+        assertThat(executor.getThrottle().status().retryAfterMillis()).isBetween(29_000L, 30_000L);
+    }
+
+    @Test
+    void failsFastWithoutNetworkCallWhileThrottled() throws Exception {
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(429);
+        when(response.headers()).thenReturn(HttpHeaders.of(Map.of(), (k, v) -> true));
+
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(response);
+
+        URI uri = URI.create("https://api.example.com/weather");
+
+        assertThatThrownBy(() -> executor.get(uri)).isInstanceOf(ThrottledException.class);
+        assertThatThrownBy(() -> executor.get(uri))
+                .isInstanceOf(ThrottledException.class)
+                .hasMessageContaining("Throttled by provider");
+
+        verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        assertThat(executor.getThrottle().status().throttledResponses()).isEqualTo(1);
+        assertThat(executor.getThrottle().status().rejectedRequests()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,53 @@
+package com.github.kfedor.weather.sdk.http;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThrottleStateTest {
+
+    @Test
+    void parsesRetryAfterGivenInSeconds() {
+        assertThat(ThrottleState.parseRetryAfter("120")).isEqualTo(120_000L);
+    }
+
+    @Test
+    void parsesRetryAfterGivenAsHttpDate() {
+        String header = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60));
+
+        assertThat(ThrottleState.parseRetryAfter(header)).isBetween(55_000L, 60_000L);
+    }
+
+    @Test
+    void returnsMinusOneForMissingOrInvalidRetryAfter() {
+        assertThat(ThrottleState.parseRetryAfter(null)).isEqualTo(-1L);
+        assertThat(ThrottleState.parseRetryAfter("soon")).isEqualTo(-1L);
+    }
+
+    @Test
+    void backsOffExponentiallyWithoutRetryAfterAndResetsOnSuccess() {
+        ThrottleState state = new ThrottleState();
+
+        assertThat(state.onThrottled(null)).isEqualTo(1_000L);
+        assertThat(state.onThrottled(null)).isEqualTo(2_000L);
+        assertThat(state.onThrottled(null)).isEqualTo(4_000L);
+
+        state.onSuccess();
+
+        assertThat(state.onThrottled(null)).isEqualTo(1_000L);
+        assertThat(state.status().throttledResponses()).isEqualTo(4);
+    }
+
+    @Test
+    void capsHugeRetryAfterInsteadOfOverflowing() {
+        ThrottleState state = new ThrottleState();
+
+        assertThat(ThrottleState.parseRetryAfter(String.valueOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+        assertThat(state.onThrottled(String.valueOf(Long.MAX_VALUE))).isEqualTo(ThrottleState.MAX_RETRY_AFTER_MILLIS);
+        assertThat(state.status().throttled()).isTrue();
+        assertThat(state.remainingMillis()).isBetween(1L, ThrottleState.MAX_RETRY_AFTER_MILLIS);
+    }
+}
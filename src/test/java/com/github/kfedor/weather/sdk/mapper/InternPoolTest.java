@@ -0,0 +1,73 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class InternPoolTest {
+
+    @Test
+    void returnsCanonicalInstanceForEqualValues() {
+        InternPool<String> pool = new InternPool<>(10);
+        String first = new String("Clouds");
+        String second = new String("Clouds");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void stopsGrowingAtBoundButKeepsSharingPooledValues() {
+        InternPool<String> pool = new InternPool<>(2);
+        String a = pool.intern(new String("a"));
+        pool.intern(new String("b"));
+
+        String c = new String("c");
+        assertSame(c, pool.intern(c));
+        assertNotSame(c, pool.intern(new String("c")));
+        assertEquals(2, pool.size());
+        assertSame(a, pool.intern(new String("a")));
+    }
+
+    @Test
+    void passesNullThrough() {
+        assertNull(new InternPool<String>(1).intern(null));
+    }
+
+    @Test
+    void mapperSharesConditionsAndCityNamesAcrossResponses() {
+        WeatherResponse first = WeatherMapper.toSdk(raw(new String("Oslo"), new String("Snow"), new String("light snow")));
+        WeatherResponse second = WeatherMapper.toSdk(raw(new String("Oslo"), new String("Snow"), new String("light snow")));
+
+        assertNotSame(first, second);
+        assertSame(first.weather(), second.weather());
+        assertSame(first.name(), second.name());
+    }
+
+    @Test
+    void decoderSharesConditionsWithMapper() {
+        String json = "{\"weather\":[{\"main\":\"Drizzle\",\"description\":\"light intensity drizzle\"}],\"name\":\"Bergen\"}";
+        WeatherResponse decoded = WeatherResponseDecoder.decode(json);
+        WeatherResponse mapped = WeatherMapper.toSdk(raw(new String("Bergen"), new String("Drizzle"),
+                new String("light intensity drizzle")));
+
+        assertSame(decoded.weather(), mapped.weather());
+        assertSame(decoded.name(), mapped.name());
+    }
+
+    private static OpenWeatherResponse raw(String name, String main, String description) {
+        OpenWeatherResponse raw = new OpenWeatherResponse();
+        OpenWeatherResponse.Weather weather = new OpenWeatherResponse.Weather();
+        weather.setMain(main);
+        weather.setDescription(description);
+        raw.setWeather(new OpenWeatherResponse.Weather[]{weather});
+        raw.setName(name);
+        return raw;
+    }
+}
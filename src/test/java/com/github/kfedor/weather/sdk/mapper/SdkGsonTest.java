@@ -0,0 +1,103 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import com.github.kfedor.weather.sdk.model.GeocodingItem;
+import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SdkGsonTest {
+
+    private final Gson gson = SdkGson.gson();
+
+    @Test
+    void returnsOneSharedInstance() {
+        assertSame(SdkGson.gson(), SdkGson.gson());
+    }
+
+    @Test
+    void readsProviderWeatherResponse() {
+        OpenWeatherResponse raw = gson.fromJson("""
+                {"coord":{"lon":24.94,"lat":60.17},
+                 "weather":[{"id":803,"main":"Clouds","description":"broken clouds"}],
+                 "main":{"temp":280.15,"feels_like":278.5,"humidity":81},
+                 "visibility":10000,"wind":{"speed":3.6,"deg":230},
+                 "dt":1675744800,"sys":{"country":"FI","sunrise":1675751262,"sunset":1675787560},
+                 "timezone":7200,"name":"Helsinki","cod":200}""", OpenWeatherResponse.class);
+
+        assertEquals("Clouds", raw.getWeather()[0].getMain());
+        assertEquals("broken clouds", raw.getWeather()[0].getDescription());
+        assertEquals(280.15, raw.getMain().getTemp(), 1e-9);
+        assertEquals(278.5, raw.getMain().getFeels_like(), 1e-9);
+        assertEquals(3.6, raw.getWind().getSpeed(), 1e-9);
+        assertEquals(10_000, raw.getVisibility());
+        assertEquals(1675744800L, raw.getDt());
+        assertEquals(1675787560L, raw.getSys().getSunset());
+        assertEquals(7200, raw.getTimezone());
+        assertEquals("Helsinki", raw.getName());
+    }
+
+    @Test
+    void readsGeocodingItemArray() {
+        GeocodingItem[] items = gson.fromJson("""
+                [{"name":"Helsinki","local_names":{"fi":"Helsinki"},"lat":60.1674881,"lon":24.9427473,"country":"FI"},
+                 {"name":"Helsinki","lat":46.0,"lon":-120.0}]""", GeocodingItem[].class);
+
+        assertEquals(2, items.length);
+        assertEquals(new GeocodingItem(60.1674881, 24.9427473), items[0]);
+        assertEquals(-120.0, items[1].longitude(), 1e-9);
+    }
+
+    @Test
+    void weatherResponseRoundTrips() {
+        WeatherResponse response = WeatherResponse.builder()
+                .weather(new WeatherResponse.Weather("Rain", "light rain"))
+                .temperature(new WeatherResponse.Temperature(285.0, 284.0))
+                .datetime(42L)
+                .name("Bergen")
+                .build();
+
+        String json = gson.toJson(response);
+        WeatherResponse copy = gson.fromJson(json, WeatherResponse.class);
+
+        assertEquals(response, copy);
+        assertEquals("light rain", copy.weather().description());
+        assertEquals(284.0, copy.temperature().feelsLike(), 1e-9);
+        assertEquals(42L, copy.datetime());
+        assertEquals("Bergen", copy.name());
+        assertNull(copy.wind());
+        assertNull(copy.sys());
+    }
+
+    @Test
+    void nullsAndMissingFieldsAreTolerated() {
+        OpenWeatherResponse raw = gson.fromJson("{\"main\":{\"temp\":null},\"name\":null}", OpenWeatherResponse.class);
+
+        assertEquals(0.0, raw.getMain().getTemp(), 0.0);
+        assertNull(raw.getName());
+        assertNull(gson.fromJson("null", OpenWeatherResponse.class));
+    }
+
+    @Test
+    void malformedValuesAreSyntaxErrors() {
+        assertThrows(JsonSyntaxException.class,
+                () -> gson.fromJson("{\"main\":{\"temp\":\"warm\"}}", OpenWeatherResponse.class));
+        assertThrows(JsonSyntaxException.class, () -> gson.fromJson("{invalid-json", OpenWeatherResponse.class));
+    }
+
+    @Test
+    void refusesReflectiveBindingOfUnregisteredTypes() {
+        assertThrows(JsonIOException.class, () -> gson.fromJson("{}", Unregistered.class));
+    }
+
+    static class Unregistered {
+        String value;
+    }
+}
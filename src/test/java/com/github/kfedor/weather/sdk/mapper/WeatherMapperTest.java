@@ -44,25 +44,25 @@ class WeatherMapperTest {
         WeatherResponse result = WeatherMapper.toSdk(raw);
 
         assertNotNull(result);
-        assertNotNull(result.getWeather());
-        assertEquals("Clouds", result.getWeather().getMain());
-        assertEquals("scattered clouds", result.getWeather().getDescription());
+        assertNotNull(result.weather());
+        assertEquals("Clouds", result.weather().main());
+        assertEquals("scattered clouds", result.weather().description());
 
-        assertNotNull(result.getTemperature());
-        assertEquals(269.6, result.getTemperature().getTemp(), 1e-9);
-        assertEquals(267.57, result.getTemperature().getFeels_like(), 1e-9);
+        assertNotNull(result.temperature());
+        assertEquals(269.6, result.temperature().temp(), 1e-9);
+        assertEquals(267.57, result.temperature().feelsLike(), 1e-9);
 
-        assertNotNull(result.getWind());
-        assertEquals(1.38, result.getWind().getSpeed(), 1e-9);
+        assertNotNull(result.wind());
+        assertEquals(1.38, result.wind().speed(), 1e-9);
 
-        assertEquals(10_000, result.getVisibility());
-        assertEquals(1675744800L, result.getDatetime());
-        assertEquals(3600, result.getTimezone());
-        assertEquals("Rome", result.getName());
+        assertEquals(10_000, result.visibility());
+        assertEquals(1675744800L, result.datetime());
+        assertEquals(3600, result.timezone());
+        assertEquals("Rome", result.name());
 
-        assertNotNull(result.getSys());
-        assertEquals(1675751262L, result.getSys().getSunrise());
-        assertEquals(1675787560L, result.getSys().getSunset());
+        assertNotNull(result.sys());
+        assertEquals(1675751262L, result.sys().sunrise());
+        assertEquals(1675787560L, result.sys().sunset());
     }
 
     @Test
@@ -76,15 +76,15 @@ class WeatherMapperTest {
 
         WeatherResponse result = WeatherMapper.toSdk(raw);
 
-        assertNull(result.getWeather());
-        assertNull(result.getTemperature());
-        assertNull(result.getWind());
+        assertNull(result.weather());
+        assertNull(result.temperature());
+        assertNull(result.wind());
         assertNotNull(result);
-        assertEquals(5000, result.getVisibility());
-        assertEquals(111L, result.getDatetime());
-        assertEquals(7200, result.getTimezone());
-        assertEquals("Istanbul", result.getName());
-        assertNull(result.getSys());
+        assertEquals(5000, result.visibility());
+        assertEquals(111L, result.datetime());
+        assertEquals(7200, result.timezone());
+        assertEquals("Istanbul", result.name());
+        assertNull(result.sys());
     }
 
     @Test
@@ -98,10 +98,24 @@ class WeatherMapperTest {
 
         WeatherResponse result = WeatherMapper.toSdk(raw);
 
-        assertNull(result.getWeather());
-        assertNotNull(result.getTemperature());
-        assertEquals(280.0, result.getTemperature().getTemp(), 1e-9);
-        assertEquals(279.0, result.getTemperature().getFeels_like(), 1e-9);
+        assertNull(result.weather());
+        assertNotNull(result.temperature());
+        assertEquals(280.0, result.temperature().temp(), 1e-9);
+        assertEquals(279.0, result.temperature().feelsLike(), 1e-9);
+    }
+
+    @Test
+    void toBuilderDerivesModifiedValueAndLeavesOriginalIntact() {
+        OpenWeatherResponse raw = new OpenWeatherResponse();
+        raw.setName("Turku");
+        raw.setTimezone(7200);
+        WeatherResponse original = WeatherMapper.toSdk(raw);
+
+        WeatherResponse renamed = original.toBuilder().name("Åbo").build();
+
+        assertEquals("Turku", original.name());
+        assertEquals("Åbo", renamed.name());
+        assertEquals(original.timezone(), renamed.timezone());
     }
 
     @Test
@@ -0,0 +1,150 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import com.github.kfedor.weather.sdk.exception.MalformedResponseException;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeatherResponseCodecTest {
+
+    private static WeatherResponse full(String name, String main, String description) {
+        return WeatherResponse.builder()
+                .weather(new WeatherResponse.Weather(main, description))
+                .temperature(new WeatherResponse.Temperature(280.15, 278.5))
+                .visibility(10_000)
+                .wind(new WeatherResponse.Wind(3.6))
+                .datetime(1675744800L)
+                .sys(new WeatherResponse.Sys(1675751262L, 1675787560L))
+                .timezone(-18_000)
+                .name(name)
+                .build();
+    }
+
+    private static WeatherResponse roundTrip(WeatherResponse response, ByteBuffer buffer) {
+        WeatherResponseCodec.encode(response, buffer);
+        assertEquals(WeatherResponseCodec.encodedSize(response), buffer.position());
+        buffer.flip();
+        WeatherResponse decoded = WeatherResponseCodec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+
+    @Test
+    void roundTripsAllFields() {
+        WeatherResponse response = full("Helsinki", "Clouds", "broken clouds");
+
+        assertEquals(response, roundTrip(response, ByteBuffer.allocate(256)));
+    }
+
+    @Test
+    void roundTripsThroughDirectBuffers() {
+        WeatherResponse response = full("Zürich", "Unlisted", "custom condition ☂ 🌧");
+
+        assertEquals(response, roundTrip(response, ByteBuffer.allocateDirect(256)));
+    }
+
+    @Test
+    void roundTripsMissingSections() {
+        WeatherResponse response = WeatherResponse.builder().datetime(5L).build();
+
+        WeatherResponse decoded = roundTrip(response, ByteBuffer.allocate(64));
+
+        assertEquals(response, decoded);
+    }
+
+    @Test
+    void roundTripsNullAndEmptyStrings() {
+        WeatherResponse response = full("", null, "custom").toBuilder()
+                .weather(new WeatherResponse.Weather(null, ""))
+                .build();
+
+        WeatherResponse decoded = roundTrip(response, ByteBuffer.allocate(256));
+
+        assertEquals(response, decoded);
+        assertNull(decoded.weather().main());
+        assertEquals("", decoded.weather().description());
+        assertEquals("", decoded.name());
+    }
+
+    @Test
+    void roundTripsDecimalsThatCannotBePacked() {
+        WeatherResponse response = full("Helsinki", "Clouds", "broken clouds").toBuilder()
+                .temperature(new WeatherResponse.Temperature(280.123456, -0.1))
+                .wind(new WeatherResponse.Wind(Double.NaN))
+                .build();
+
+        assertEquals(response, roundTrip(response, ByteBuffer.allocate(256)));
+    }
+
+    @Test
+    void dictionaryCodesKeepResponsesSmall() {
+        WeatherResponse response = full("Helsinki", "Clouds", "broken clouds");
+
+        assertTrue(WeatherResponseCodec.encodedSize(response) < 50);
+        assertTrue(WeatherResponseCodec.encodedSize(response)
+                   < WeatherResponseCodec.encodedSize(full("Helsinki", "Clouds!", "broken clouds!")));
+    }
+
+    @Test
+    void decodedConditionsAreShared() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        WeatherResponseCodec.encode(full("Oslo", "Snow", "light snow"), buffer);
+        WeatherResponseCodec.encode(full("Oslo", "Snow", "light snow"), buffer);
+        buffer.flip();
+
+        WeatherResponse first = WeatherResponseCodec.decode(buffer);
+        WeatherResponse second = WeatherResponseCodec.decode(buffer);
+
+        assertSame(first.weather(), second.weather());
+        assertSame(first.name(), second.name());
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{99, 0, 0, 0, 0});
+
+        WeatherSdkException ex = assertThrows(WeatherSdkException.class, () -> WeatherResponseCodec.decode(buffer));
+        assertEquals("Unsupported binary weather format version 99", ex.getMessage());
+    }
+
+    @Test
+    void rejectsUnknownFlags() {
+        for (int flag : new int[]{64, 128}) {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[]{WeatherResponseCodec.VERSION, (byte) flag, 0, 0, 0});
+
+            WeatherSdkException ex = assertThrows(MalformedResponseException.class,
+                    () -> WeatherResponseCodec.decode(buffer));
+            assertEquals("Unknown flags in binary weather data: " + flag, ex.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsTruncatedData() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        WeatherResponseCodec.encode(full("Helsinki", "Clouds", "broken clouds"), buffer);
+        buffer.flip().limit(buffer.limit() - 3);
+
+        assertThrows(WeatherSdkException.class, () -> WeatherResponseCodec.decode(buffer));
+    }
+
+    @Test
+    void rejectsCorruptStringLengths() {
+        byte[] negative = {WeatherResponseCodec.VERSION, 16, 0, 0, 0, 0, 5, 'O', 'k'};
+        byte[] oversized = {WeatherResponseCodec.VERSION, 16, 0, 0, 0, 0, (byte) 0xFE, (byte) 0xFF, 0x7F};
+        byte[] truncated = {WeatherResponseCodec.VERSION, 16, 0, 0, 0, 0, 8, 'O', 'k'};
+        byte[] hugeCode = {WeatherResponseCodec.VERSION, 16, 0, 0, 0,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+
+        for (byte[] data : new byte[][]{negative, oversized, truncated, hugeCode}) {
+            assertThrows(MalformedResponseException.class, () -> WeatherResponseCodec.decode(ByteBuffer.wrap(data)));
+        }
+    }
+}
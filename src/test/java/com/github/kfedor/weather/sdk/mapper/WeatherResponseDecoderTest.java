@@ -0,0 +1,119 @@
+package com.github.kfedor.weather.sdk.mapper;
+
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import com.github.kfedor.weather.sdk.model.Coordinates;
+import com.github.kfedor.weather.sdk.model.OpenWeatherResponse;
+import com.github.kfedor.weather.sdk.model.WeatherResponse;
+import com.google.gson.Gson;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeatherResponseDecoderTest {
+
+    private static final String FULL = """
+            {"coord":{"lon":12.4964,"lat":41.9028},
+             "weather":[{"id":802,"main":"Clouds","description":"scattered clouds","icon":"03d"},
+                        {"id":701,"main":"Mist","description":"mist","icon":"50d"}],
+             "base":"stations",
+             "main":{"temp":269.6,"feels_like":267.57,"temp_min":268.0,"pressure":1012,"humidity":81},
+             "visibility":10000,
+             "wind":{"speed":1.38,"deg":230,"gust":2.5},
+             "clouds":{"all":40},
+             "dt":1675744800,
+             "sys":{"type":2,"id":2011913,"country":"IT","sunrise":1675751262,"sunset":1675787560},
+             "timezone":3600,"id":3169070,"name":"Rome","cod":200}
+            """;
+
+    @Test
+    void decodesAllMappedFieldsAndSkipsTheRest() {
+        WeatherResponse result = WeatherResponseDecoder.decode(FULL);
+
+        assertEquals("Clouds", result.weather().main());
+        assertEquals("scattered clouds", result.weather().description());
+        assertEquals(269.6, result.temperature().temp(), 1e-9);
+        assertEquals(267.57, result.temperature().feelsLike(), 1e-9);
+        assertEquals(1.38, result.wind().speed(), 1e-9);
+        assertEquals(10_000, result.visibility());
+        assertEquals(1675744800L, result.datetime());
+        assertEquals(1675751262L, result.sys().sunrise());
+        assertEquals(1675787560L, result.sys().sunset());
+        assertEquals(3600, result.timezone());
+        assertEquals("Rome", result.name());
+    }
+
+    @Test
+    void matchesGsonPlusMapperOutput() {
+        WeatherResponse expected = WeatherMapper.toSdk(new Gson().fromJson(FULL, OpenWeatherResponse.class));
+        WeatherResponse actual = WeatherResponseDecoder.decode(FULL);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void decodeWithIdReportsProviderCityId() {
+        WeatherResponseDecoder.Decoded decoded = WeatherResponseDecoder.decodeWithId(FULL);
+
+        assertEquals(3169070L, decoded.cityId());
+        assertEquals(WeatherResponseDecoder.decode(FULL), decoded.response());
+    }
+
+    @Test
+    void decodeListReadsEveryListedCity() {
+        List<WeatherResponseDecoder.Decoded> cities = WeatherResponseDecoder.decodeList(
+                "{\"cnt\":2,\"list\":[" + FULL + ",{\"id\":7,\"name\":\"Seven\"}]}");
+
+        assertEquals(2, cities.size());
+        assertEquals("Rome", cities.get(0).response().name());
+        assertEquals(7L, cities.get(1).cityId());
+        assertEquals("Seven", cities.get(1).response().name());
+    }
+
+    @Test
+    void decodeListReadsCapitalizedBoxCoordinates() {
+        List<WeatherResponseDecoder.Decoded> cities = WeatherResponseDecoder.decodeList(
+                "{\"list\":[{\"id\":1,\"coord\":{\"Lon\":24.94,\"Lat\":60.17},\"name\":\"Helsinki\"}]}");
+
+        assertEquals(new Coordinates(60.17, 24.94), cities.get(0).coordinates());
+    }
+
+    @Test
+    void missingAndNullSectionsStayNull() {
+        WeatherResponse result = WeatherResponseDecoder.decode("""
+                {"weather":[],"main":null,"name":null,"dt":5}""");
+
+        assertNull(result.weather());
+        assertNull(result.temperature());
+        assertNull(result.wind());
+        assertNull(result.sys());
+        assertNull(result.name());
+        assertEquals(5L, result.datetime());
+    }
+
+    @Test
+    void emptyObjectDecodesToEmptyResponse() {
+        WeatherResponse result = WeatherResponseDecoder.decode("{}");
+
+        assertNotNull(result);
+        assertNull(result.name());
+    }
+
+    @Test
+    void throwsOnEmptyPayload() {
+        WeatherSdkException ex = assertThrows(WeatherSdkException.class, () -> WeatherResponseDecoder.decode("null"));
+        assertEquals("Empty provider response", ex.getMessage());
+        assertThrows(WeatherSdkException.class, () -> WeatherResponseDecoder.decode(" "));
+    }
+
+    @Test
+    void throwsOnMalformedJson() {
+        WeatherSdkException ex = assertThrows(WeatherSdkException.class,
+                () -> WeatherResponseDecoder.decode("{\"main\":{\"temp\":\"warm\"}}"));
+        assertEquals("Malformed JSON from weather provider", ex.getMessage());
+        assertThrows(WeatherSdkException.class, () -> WeatherResponseDecoder.decode("[1,2]"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.kfedor.weather.sdk.model;
+
+import com.github.kfedor.weather.sdk.exception.ErrorCode;
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class CoordinatesTest {
+
+    @Test
+    void distanceKmUsesGreatCircle() {
+        Coordinates helsinki = new Coordinates(60.1699, 24.9384);
+        Coordinates tallinn = new Coordinates(59.4370, 24.7535);
+
+        assertThat(helsinki.distanceKm(tallinn)).isCloseTo(82.0, within(1.0));
+        assertThat(helsinki.distanceKm(helsinki)).isZero();
+    }
+
+    @Test
+    void boundingBoxContainsItsEdges() {
+        BoundingBox box = new BoundingBox(24.0, 60.0, 25.5, 60.5);
+
+        assertThat(box.contains(new Coordinates(60.0, 24.0))).isTrue();
+        assertThat(box.contains(new Coordinates(60.1699, 24.9384))).isTrue();
+        assertThat(box.contains(new Coordinates(59.437, 24.7535))).isFalse();
+    }
+
+    @Test
+    void boundingBoxRejectsInvertedCorners() {
+        assertThatThrownBy(() -> new BoundingBox(25.5, 60.0, 24.0, 60.5))
+                .isInstanceOf(WeatherSdkException.class)
+                .extracting(ex -> ((WeatherSdkException) ex).getCode())
+                .isEqualTo(ErrorCode.INVALID_ARGUMENT);
+    }
+}
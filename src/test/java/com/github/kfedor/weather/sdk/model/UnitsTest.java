@@ -0,0 +1,50 @@
+package com.github.kfedor.weather.sdk.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnitsTest {
+
+    private static final WeatherResponse STANDARD = WeatherResponse.builder()
+            .temperature(new WeatherResponse.Temperature(293.15, 290.0))
+            .wind(new WeatherResponse.Wind(10.0))
+            .visibility(10_000)
+            .name("Helsinki")
+            .build();
+
+    @Test
+    void standardIsIdentity() {
+        assertThat(Units.STANDARD.convert(STANDARD)).isSameAs(STANDARD);
+    }
+
+    @Test
+    void metricConvertsTemperaturesToCelsius() {
+        WeatherResponse metric = Units.METRIC.convert(STANDARD);
+
+        assertThat(metric.temperature().temp()).isEqualTo(20.0);
+        assertThat(metric.temperature().feelsLike()).isEqualTo(16.85);
+        assertThat(metric.wind().speed()).isEqualTo(10.0);
+        assertThat(metric.visibility()).isEqualTo(10_000);
+        assertThat(metric.name()).isEqualTo("Helsinki");
+    }
+
+    @Test
+    void imperialConvertsToFahrenheitAndMilesPerHour() {
+        WeatherResponse imperial = Units.IMPERIAL.convert(STANDARD);
+
+        assertThat(imperial.temperature().temp()).isEqualTo(68.0);
+        assertThat(imperial.temperature().feelsLike()).isEqualTo(62.33);
+        assertThat(imperial.wind().speed()).isEqualTo(22.37);
+    }
+
+    @Test
+    void keepsMissingSectionsMissing() {
+        WeatherResponse bare = WeatherResponse.builder().name("Nowhere").build();
+
+        WeatherResponse imperial = Units.IMPERIAL.convert(bare);
+
+        assertThat(imperial.temperature()).isNull();
+        assertThat(imperial.wind()).isNull();
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.kfedor.weather.sdk.model;
+
+import com.github.kfedor.weather.sdk.exception.WeatherSdkException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeatherDetailsTest {
+
+    private static final String PAYLOAD = """
+            {"coord":{"lon":24.94,"lat":60.17},
+             "weather":[{"id":501,"main":"Rain","description":"moderate rain","icon":"10d"},
+                        {"id":701,"main":"Mist","description":"mist","icon":"50d"}],
+             "base":"stations",
+             "main":{"temp":281.5,"feels_like":279.1,"temp_min":280.2,"temp_max":282.9,
+                     "pressure":1009,"humidity":87,"sea_level":1009,"grnd_level":1004},
+             "visibility":8000,
+             "wind":{"speed":5.1,"deg":230,"gust":9.8},
+             "rain":{"1h":1.27},
+             "clouds":{"all":90},
+             "dt":1700000000,
+             "sys":{"type":2,"id":2011913,"country":"FI","sunrise":1699940000,"sunset":1699965000},
+             "timezone":7200,"id":658225,"name":"Helsinki","cod":200}
+            """;
+
+    private static WeatherDetails details(String json) {
+        return new WeatherDetails(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void decodesFieldsTheSdkFormatDrops() {
+        WeatherDetails details = details(PAYLOAD);
+
+        assertThat(details.latitude()).isEqualTo(60.17);
+        assertThat(details.longitude()).isEqualTo(24.94);
+        assertThat(details.conditionId()).isEqualTo(501);
+        assertThat(details.icon()).isEqualTo("10d");
+        assertThat(details.tempMin()).isEqualTo(280.2);
+        assertThat(details.tempMax()).isEqualTo(282.9);
+        assertThat(details.pressure()).isEqualTo(1009);
+        assertThat(details.humidity()).isEqualTo(87);
+        assertThat(details.seaLevel()).isEqualTo(1009);
+        assertThat(details.groundLevel()).isEqualTo(1004);
+        assertThat(details.windDegree()).isEqualTo(230);
+        assertThat(details.windGust()).isEqualTo(9.8);
+        assertThat(details.cloudiness()).isEqualTo(90);
+        assertThat(details.rain1h()).isEqualTo(1.27);
+        assertThat(details.country()).isEqualTo("FI");
+        assertThat(details.cityId()).isEqualTo(658225L);
+    }
+
+    @Test
+    void unreportedFieldsAreNull() {
+        WeatherDetails details = details(PAYLOAD);
+
+        assertThat(details.rain3h()).isNull();
+        assertThat(details.snow1h()).isNull();
+        assertThat(details.snow3h()).isNull();
+    }
+
+    @Test
+    void decodesOnlyOnFirstAccess() {
+        WeatherDetails details = details(PAYLOAD);
+
+        assertThat(details.isDecoded()).isFalse();
+        assertThat(details.payload().remaining()).isEqualTo(PAYLOAD.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(details.isDecoded()).isFalse();
+
+        details.humidity();
+
+        assertThat(details.isDecoded()).isTrue();
+    }
+
+    @Test
+    void toleratesNullSectionsAndValues() {
+        WeatherDetails details = details("{\"main\":null,\"wind\":{\"gust\":null},\"weather\":[]}");
+
+        assertThat(details.humidity()).isNull();
+        assertThat(details.windGust()).isNull();
+        assertThat(details.conditionId()).isNull();
+    }
+
+    @Test
+    void roundsFractionalWholeNumberFields() {
+        WeatherDetails details = details("""
+                {"main":{"pressure":1012.5,"humidity":80.4,"sea_level":1012.6,"grnd_level":1003.2},
+                 "wind":{"deg":229.7},"clouds":{"all":74.5},"weather":[{"id":803}]}
+                """);
+
+        assertThat(details.pressure()).isEqualTo(1013);
+        assertThat(details.humidity()).isEqualTo(80);
+        assertThat(details.seaLevel()).isEqualTo(1013);
+        assertThat(details.groundLevel()).isEqualTo(1003);
+        assertThat(details.windDegree()).isEqualTo(230);
+        assertThat(details.cloudiness()).isEqualTo(75);
+        assertThat(details.conditionId()).isEqualTo(803);
+    }
+
+    @Test
+    void malformedPayloadFailsOnAccess() {
+        WeatherDetails details = details("{\"main\":{\"humidity\":\"high\"}}");
+
+        assertThatThrownBy(details::humidity)
+                .isInstanceOf(WeatherSdkException.class)
+                .hasMessage("Malformed JSON from weather provider");
+    }
+}